@@ -23,6 +23,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -57,7 +59,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,6 +69,27 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} for the data file in {@code userPrefs}, in the format chosen there.
+     * The other formats can still be read, so that the data file is converted when the address book is next saved.
+     */
+    protected AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        logger.info("Using address book format " + userPrefs.getAddressBookFormat());
+
+        switch (userPrefs.getAddressBookFormat()) {
+        case JSON:
+            return new JsonAddressBookStorage(addressBookFilePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        case JOURNAL:
+            return new JournalAddressBookStorage(addressBookFilePath,
+                    JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, userPrefs.getJournalSyncInterval());
+        default:
+            throw new AssertionError("Unknown address book format: " + userPrefs.getAddressBookFormat());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +200,13 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            logic.awaitPendingSaves();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+            ui.showErrorDialogAndWait("Save Failed", "Your latest changes could not be saved.",
+                    String.format(LogicManager.FILE_OPS_ERROR_FORMAT, e.getMessage()));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
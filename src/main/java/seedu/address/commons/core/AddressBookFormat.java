@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats in which the address book data file can be stored.
+ */
+public enum AddressBookFormat {
+    /** A single JSON file, rewritten on every save. */
+    JSON,
+    /** A JSON snapshot with a journal of the changes made since it was written. */
+    JOURNAL,
+    /** A single compact binary file, rewritten on every save. */
+    BINARY
+}
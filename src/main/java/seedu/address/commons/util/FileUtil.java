@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,18 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    /**
+     * Writes content into an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content into {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +99,128 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, replacing its content in a single step.
+     * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFileAtomically(Path, ContentWriter)
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, replacing its content in a single step.
+     * The content is written to a temporary file next to {@code file} and forced to the disk, before the temporary
+     * file is moved over {@code file}. Should the app or the system crash at any point, {@code file} keeps either
+     * its old content or the complete new content.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = getTempFilePath(file);
+        createParentDirsOfFile(file);
+        // Left behind by a write that was cut short
+        Files.deleteIfExists(tempFile);
+        writeToNewFileDurably(tempFile, contentWriter);
+        moveAtomically(tempFile, file);
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a new file, and only returns once the content has been
+     * forced to the disk. The file is deleted again if the content cannot be written.
+     *
+     * @throws java.nio.file.FileAlreadyExistsException if the file already exists.
+     */
+    public static void writeToNewFileDurably(Path file, ContentWriter contentWriter) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        try (channel) {
+            OutputStream out = Channels.newOutputStream(channel);
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(file);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in a single step, falling back to a plain replacing move on file
+     * systems that cannot move files atomically. Only returns once the move has been forced to the disk.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceParentDir(target);
+    }
+
+    /**
+     * Appends given string to a file, forcing it to the disk if {@code isForced} is true.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content, boolean isForced) throws IOException {
+        boolean isNewFile = !Files.exists(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (isForced) {
+                channel.force(false);
+            }
+        }
+        if (isForced && isNewFile) {
+            forceParentDir(file);
+        }
+    }
+
+    /**
+     * Forces the content of {@code file} written so far to the disk.
+     */
+    public static void forceToDisk(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Forces the entries of the directory holding {@code file} to the disk, so that files created, deleted or moved
+     * in it are still there after a crash. Does nothing on platforms that cannot open directories, such as Windows.
+     */
+    public static void forceParentDir(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(dir, StandardOpenOption.READ);
+        } catch (IOException ioe) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Cuts {@code file} down to its first {@code size} bytes, and only returns once the change has been forced to
+     * the disk.
+     */
+    public static void truncateFile(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Returns the path of the temporary file used to replace {@code file} in a single step.
+     */
+    public static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+    }
+
 }
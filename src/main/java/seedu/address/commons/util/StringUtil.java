@@ -64,6 +64,46 @@ public class StringUtil {
         return preppedSentence.contains(preppedSearchTerm);
     }
 
+    /**
+     * Returns {@code searchTerm} normalized as by {@link #normalizeForSearch(String)}, so that it can be matched
+     * against normalized text with {@code String#contains(CharSequence)}. Callers searching many texts for the same
+     * term should prep it once per search.
+     * @param searchTerm cannot be null, cannot be empty
+     */
+    public static String prepSearchTerm(String searchTerm) {
+        requireNonNull(searchTerm);
+
+        String preppedSearchTerm = normalizeForSearch(searchTerm);
+        checkArgument(!preppedSearchTerm.isEmpty(), "Search term parameter cannot be empty");
+
+        return preppedSearchTerm;
+    }
+
+    /**
+     * Returns {@code text} trimmed, lower-cased and with every run of whitespace collapsed into a single space.
+     * This runs for every searchable detail of every person, so the text is normalized in a single pass.
+     * @param text cannot be null
+     */
+    public static String normalizeForSearch(String text) {
+        requireNonNull(text);
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean isAfterWhitespace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                isAfterWhitespace = true;
+                continue;
+            }
+            // Leading whitespace is dropped, and trailing whitespace is never followed by another character
+            if (isAfterWhitespace && normalized.length() > 0) {
+                normalized.append(' ');
+            }
+            isAfterWhitespace = false;
+            normalized.append(Character.toLowerCase(c));
+        }
+        return normalized.toString();
+    }
+
 
     /**
      * Returns a detailed message of the t, including the stack trace.
@@ -0,0 +1,163 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.parser.DateTimeParser;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves the address book to storage in the background, so that commands do not wait for disk I/O.
+ * Requesting a save only records the latest change made to the address book, so it takes constant time. The saver
+ * keeps its own copy of the persons on the background thread, and brings it up to date with the changes made since
+ * the last save before writing it.
+ * Saves requested while an earlier save is still waiting to run are coalesced, and only the latest is written.
+ * A failed save is kept until it is collected with {@link #takeFailure()}.
+ */
+class AddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final Storage storage;
+    private final Executor executor;
+    private final AtomicReference<Snapshot> pendingSnapshot = new AtomicReference<>();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    // Only used on the thread running the saves
+    private final List<Person> savedPersons = new ArrayList<>();
+    private final ObservableList<Person> savedPersonsView =
+            FXCollections.unmodifiableObservableList(FXCollections.observableList(savedPersons));
+    private AddressBookChange savedChange;
+
+    /**
+     * Creates a saver that writes to {@code storage} using {@code executor}.
+     * The executor must run its tasks one at a time, in the order they were submitted.
+     */
+    AddressBookSaver(Storage storage, Executor executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns an executor that runs saves one at a time on a background daemon thread.
+     */
+    static Executor newBackgroundExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules the current contents of {@code addressBook} to be saved, replacing any save that has not started yet.
+     * Takes constant time if {@code addressBook} records its changes, and copies its persons otherwise.
+     */
+    void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        AddressBookChange latestChange = addressBook.getLatestChange()
+                .orElseGet(() -> AddressBookChange.reset(null, addressBook.getPersonList()));
+        Snapshot snapshot = new Snapshot(latestChange, addressBook.getLastUpdated());
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            executor.execute(this::saveLatestSnapshot);
+        }
+    }
+
+    /**
+     * Returns the error from the most recent failed save and clears it,
+     * or {@code Optional#empty()} if no save has failed since the last call.
+     */
+    Optional<IOException> takeFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    /**
+     * Blocks until every save requested so far has been written and forced to the disk.
+     * A failure to force the saves to the disk is kept like a failed save.
+     */
+    void awaitPendingSaves() {
+        CompletableFuture.runAsync(this::flushSaves, executor).join();
+    }
+
+    private void flushSaves() {
+        try {
+            storage.flushAddressBook();
+        } catch (IOException ioe) {
+            logger.warning("Failed to force address book to the disk: " + ioe);
+            failure.set(ioe);
+        }
+    }
+
+    private void saveLatestSnapshot() {
+        Snapshot snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        List<AddressBookChange> changes = snapshot.latestChange.getChangesSince(savedChange);
+        changes.forEach(change -> change.applyTo(savedPersons));
+        savedChange = snapshot.latestChange;
+        try {
+            storage.saveAddressBook(new SavedAddressBook(savedPersonsView, snapshot));
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book: " + ioe);
+            failure.set(ioe);
+        }
+    }
+
+    /**
+     * The latest change made to an address book and its last updated time, which identify its contents.
+     */
+    private record Snapshot(AddressBookChange latestChange, LocalDateTime lastUpdated) {
+    }
+
+    /**
+     * A read-only view of the persons kept by the saver, which is only valid until the next save.
+     */
+    private static class SavedAddressBook implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final Snapshot snapshot;
+
+        SavedAddressBook(ObservableList<Person> persons, Snapshot snapshot) {
+            this.persons = persons;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public LocalDateTime getLastUpdated() {
+            return snapshot.lastUpdated;
+        }
+
+        @Override
+        public String getLastUpdatedString() {
+            return DateTimeParser.stringDateTime(snapshot.lastUpdated);
+        }
+
+        @Override
+        public Optional<AddressBookChange> getLatestChange() {
+            return Optional.of(snapshot.latestChange);
+        }
+    }
+}
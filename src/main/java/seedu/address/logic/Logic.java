@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
@@ -53,4 +54,10 @@ public interface Logic {
      * Returns the Model.
      */
     Model getModel();
+
+    /**
+     * Blocks until the address book changes made by every command executed so far have been saved.
+     * @throws IOException if the changes could not be saved.
+     */
+    void awaitPendingSaves() throws IOException;
 }
@@ -3,6 +3,8 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -27,19 +29,36 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long SAVE_FAILED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AddressBookSaver addressBookSaver;
+
+    // Version of the address book last handed to the saver, or SAVE_FAILED if it has to be saved after the next
+    // command
+    private long savedVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved on a background thread.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, AddressBookSaver.newBackgroundExecutor());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address book
+     * using {@code saveExecutor}. The executor must run its tasks one at a time, in the order they were submitted.
+     * The address book in {@code model} is taken to be the one in storage, so it is only saved once it changes.
+     */
+    LogicManager(Model model, Storage storage, Executor saveExecutor) {
         this.model = model;
-        this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        savedVersion = model.getAddressBookVersion();
+        addressBookParser = new AddressBookParser(model::getToday);
+        addressBookSaver = new AddressBookSaver(storage, saveExecutor);
     }
 
     @Override
@@ -48,19 +67,54 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        long versionBeforeCommand = model.getAddressBookVersion();
         commandResult = command.execute(model);
+        long version = model.getAddressBookVersion();
+        assert command.isMutating() || version == versionBeforeCommand
+                : "Command changed the address book without declaring it: " + commandText;
+
+        // Only save if the command may have changed the address book, or the last save failed, and the address book
+        // has changed since it was last saved
+        boolean mayNeedSave = command.isMutating() || savedVersion == SAVE_FAILED;
+        if (mayNeedSave && version != savedVersion) {
+            addressBookSaver.requestSave(model.getAddressBook());
+            savedVersion = version;
+        }
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        // Saving happens in the background, so a failure is reported by the first command after it happens
+        Optional<IOException> saveFailure = addressBookSaver.takeFailure();
+        if (saveFailure.isPresent()) {
+            // The file may be out of date, so save again after the next command
+            savedVersion = SAVE_FAILED;
+            IOException ioe = saveFailure.get();
+            String format = (ioe instanceof AccessDeniedException) ? FILE_OPS_PERMISSION_ERROR_FORMAT
+                    : FILE_OPS_ERROR_FORMAT;
+            throw new CommandException(String.format(format, ioe.getMessage()), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void awaitPendingSaves() throws IOException {
+        addressBookSaver.awaitPendingSaves();
+        Optional<IOException> saveFailure = addressBookSaver.takeFailure();
+        if (saveFailure.isEmpty() && savedVersion != SAVE_FAILED) {
+            return;
+        }
+
+        // The latest changes are not on disk yet, so try once more before giving up
+        long version = model.getAddressBookVersion();
+        addressBookSaver.requestSave(model.getAddressBook());
+        addressBookSaver.awaitPendingSaves();
+        saveFailure = addressBookSaver.takeFailure();
+        if (saveFailure.isPresent()) {
+            savedVersion = SAVE_FAILED;
+            throw saveFailure.get();
+        }
+        savedVersion = version;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
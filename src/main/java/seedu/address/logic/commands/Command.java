@@ -17,4 +17,13 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the data in the address book.
+     * Commands that only change what is displayed must not change the address book, so that it does not have to be
+     * saved after them.
+     */
+    public boolean isMutating() {
+        return false;
+    }
+
 }
@@ -2,15 +2,30 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Represents the result of a command execution.
+ * Besides the feedback shown to the user, a result can carry typed details of what the command did, so that the UI
+ * can update itself without parsing the feedback.
  */
 public class CommandResult {
 
+    /**
+     * What the UI should select in the person list after the command.
+     */
+    public enum Selection {
+        /** The selection is left as it is. */
+        UNCHANGED,
+        /** The first person in the list is selected, or the selection is cleared if the list is empty. */
+        FIRST_PERSON
+    }
+
     private final String feedbackToUser;
 
     /** Help information should be shown to the user. */
@@ -19,13 +34,19 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The renewals filter the command applied, or null if it did not change the renewals shown. */
+    private final RenewalsFilter renewalsFilter;
+
+    /** The number of results the command found, or null if it does not find anything. */
+    private final Integer resultCount;
+
+    private final Selection selection;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
-        this.feedbackToUser = requireNonNull(feedbackToUser);
-        this.showHelp = showHelp;
-        this.exit = exit;
+        this(feedbackToUser, showHelp, exit, null, null, Selection.UNCHANGED);
     }
 
     /**
@@ -36,6 +57,38 @@ public class CommandResult {
         this(feedbackToUser, false, false);
     }
 
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, RenewalsFilter renewalsFilter,
+            Integer resultCount, Selection selection) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = showHelp;
+        this.exit = exit;
+        this.renewalsFilter = renewalsFilter;
+        this.resultCount = resultCount;
+        this.selection = requireNonNull(selection);
+    }
+
+    /**
+     * Returns a copy of this result that reports {@code renewalsFilter} as the renewals filter the command applied.
+     */
+    public CommandResult withRenewalsFilter(RenewalsFilter renewalsFilter) {
+        requireNonNull(renewalsFilter);
+        return new CommandResult(feedbackToUser, showHelp, exit, renewalsFilter, resultCount, selection);
+    }
+
+    /**
+     * Returns a copy of this result that reports {@code resultCount} results.
+     */
+    public CommandResult withResultCount(int resultCount) {
+        return new CommandResult(feedbackToUser, showHelp, exit, renewalsFilter, resultCount, selection);
+    }
+
+    /**
+     * Returns a copy of this result that asks the UI to update the selection as given by {@code selection}.
+     */
+    public CommandResult withSelection(Selection selection) {
+        return new CommandResult(feedbackToUser, showHelp, exit, renewalsFilter, resultCount, selection);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -48,6 +101,24 @@ public class CommandResult {
         return exit;
     }
 
+    /**
+     * Returns the renewals filter the command applied, or an empty optional if it did not change the renewals shown.
+     */
+    public Optional<RenewalsFilter> getRenewalsFilter() {
+        return Optional.ofNullable(renewalsFilter);
+    }
+
+    /**
+     * Returns the number of results the command found, or an empty optional if it does not find anything.
+     */
+    public OptionalInt getResultCount() {
+        return (resultCount == null) ? OptionalInt.empty() : OptionalInt.of(resultCount);
+    }
+
+    public Selection getSelection() {
+        return selection;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,12 +133,15 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(renewalsFilter, otherCommandResult.renewalsFilter)
+                && Objects.equals(resultCount, otherCommandResult.resultCount)
+                && selection == otherCommandResult.selection;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, renewalsFilter, resultCount, selection);
     }
 
     @Override
@@ -76,7 +150,85 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("renewalsFilter", renewalsFilter)
+                .add("resultCount", resultCount)
+                .add("selection", selection)
                 .toString();
     }
 
+    /**
+     * The range of renewal dates the renewals are filtered by, or {@link #NONE} if there is no active filter.
+     */
+    public static final class RenewalsFilter {
+
+        /** No renewals filter is active. */
+        public static final RenewalsFilter NONE = new RenewalsFilter(null, null);
+
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+
+        private RenewalsFilter(LocalDate startDate, LocalDate endDate) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+
+        /**
+         * Returns a filter for the renewal dates from {@code startDate} to {@code endDate}, both inclusive.
+         */
+        public static RenewalsFilter between(LocalDate startDate, LocalDate endDate) {
+            requireNonNull(startDate);
+            requireNonNull(endDate);
+            return new RenewalsFilter(startDate, endDate);
+        }
+
+        /**
+         * Returns true if this filter limits the renewal dates, that is, if it is not {@link #NONE}.
+         */
+        public boolean isActive() {
+            return startDate != null;
+        }
+
+        /**
+         * Returns the first renewal date of an active filter.
+         */
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        /**
+         * Returns the last renewal date of an active filter.
+         */
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof RenewalsFilter)) {
+                return false;
+            }
+
+            RenewalsFilter otherRenewalsFilter = (RenewalsFilter) other;
+            return Objects.equals(startDate, otherRenewalsFilter.startDate)
+                    && Objects.equals(endDate, otherRenewalsFilter.endDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(startDate, endDate);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("startDate", startDate)
+                    .add("endDate", endDate)
+                    .toString();
+        }
+    }
 }
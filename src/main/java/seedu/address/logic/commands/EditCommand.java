@@ -144,6 +144,11 @@ public class EditCommand extends Command {
                     updatedNote, updatedTags);
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
 import java.util.Comparator;
-import java.util.function.Predicate;
 
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -53,20 +52,18 @@ public class FilterDateCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        Predicate<Person> renewalFilterPredicate = person ->
-                person.getPolicy().isRenewalDueWithinDateRange(startDate, endDate);
-
-        model.updateRenewalsList(renewalFilterPredicate);
+        model.updateRenewalsList(startDate, endDate);
         model.updateSortedRenewalsList(sortFilterDate());
 
-        if (model.getRenewalsList().isEmpty()) {
-            return new CommandResult(String.format(MESSAGE_NO_RESULTS,
-                startDate.format(RenewalDate.DATE_FORMATTER), endDate.format(RenewalDate.DATE_FORMATTER)));
-        }
-
-        return new CommandResult(String.format(MESSAGE_FILTER_SUCCESS,
-                model.getRenewalsList().size(),
-                startDate.format(RenewalDate.DATE_FORMATTER), endDate.format(RenewalDate.DATE_FORMATTER)));
+        int renewalCount = model.getRenewalsList().size();
+        String feedbackToUser = (renewalCount == 0)
+                ? String.format(MESSAGE_NO_RESULTS,
+                        startDate.format(RenewalDate.DATE_FORMATTER), endDate.format(RenewalDate.DATE_FORMATTER))
+                : String.format(MESSAGE_FILTER_SUCCESS, renewalCount,
+                        startDate.format(RenewalDate.DATE_FORMATTER), endDate.format(RenewalDate.DATE_FORMATTER));
+        return new CommandResult(feedbackToUser)
+                .withRenewalsFilter(CommandResult.RenewalsFilter.between(startDate, endDate))
+                .withResultCount(renewalCount);
     }
 
     @Override
@@ -85,7 +82,7 @@ public class FilterDateCommand extends Command {
 
     private Comparator<Person> sortFilterDate() {
         if (sortOrder.equals("date")) {
-            return Comparator.comparing(Person::getRenewalDateValue);
+            return Person.RENEWAL_DATE_COMPARATOR;
         } else {
             // Sort by name (alphabetical order)
             return Comparator.comparing(person -> person.getName().fullName);
@@ -10,10 +10,20 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_POLICY_TYPE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_ORDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -21,8 +31,10 @@ import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.IndexedPersonPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.PhoneContainsNumbersPredicate;
 import seedu.address.model.person.PolicyContainsNumbersPredicate;
 import seedu.address.model.person.PolicyTypeContainsKeywordsPredicate;
@@ -66,7 +78,7 @@ public class FindCommand extends Command {
 
     public static final Comparator<Person> NAME_COMPARATOR = Comparator.comparing(person ->
             person.getName().fullName);
-    public static final Comparator<Person> TAG_COMPARATOR = Comparator.comparing((Person person) ->
+    public static final Comparator<Person> TAG_COMPARATOR = Comparator.comparingInt((Person person) ->
             person.getTags().size()).reversed();
 
     private final FindPersonsPredicate predicate;
@@ -88,8 +100,10 @@ public class FindCommand extends Command {
         requireNonNull(model);
         model.updateFilteredPersonList(predicate);
         model.updateSortedPersonList(getComparator());
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        int personCount = model.getFilteredPersonList().size();
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, personCount))
+                .withResultCount(personCount)
+                .withSelection(CommandResult.Selection.FIRST_PERSON);
     }
 
     private Comparator<Person> getComparator() {
@@ -126,8 +140,9 @@ public class FindCommand extends Command {
     /**
      * Represents a predicate used to filter persons by their details.
      * Multiple predicates can be set for one or more fields.
+     * Candidate persons are looked up from the search index keyword by keyword.
      */
-    public static class FindPersonsPredicate implements Predicate<Person> {
+    public static class FindPersonsPredicate implements IndexedPersonPredicate {
         private NameContainsKeywordsPredicate namePredicate;
         private PhoneContainsNumbersPredicate phonePredicate;
         private EmailContainsKeywordsPredicate emailPredicate;
@@ -136,6 +151,9 @@ public class FindCommand extends Command {
         private PolicyTypeContainsKeywordsPredicate policyTypePredicate;
         private TagContainsKeywordsPredicate tagPredicate;
 
+        // The predicates that are set, in the order test tries them, or null if they have to be worked out again
+        private List<Predicate<Person>> clauses;
+
         public FindPersonsPredicate() {
         }
 
@@ -168,30 +186,37 @@ public class FindCommand extends Command {
 
         public void setNamePredicate(NameContainsKeywordsPredicate namePredicate) {
             this.namePredicate = namePredicate;
+            clauses = null;
         }
 
         public void setPhonePredicate(PhoneContainsNumbersPredicate phonePredicate) {
             this.phonePredicate = phonePredicate;
+            clauses = null;
         }
 
         public void setEmailPredicate(EmailContainsKeywordsPredicate emailPredicate) {
             this.emailPredicate = emailPredicate;
+            clauses = null;
         }
 
         public void setAddressPredicate(AddressContainsKeywordsPredicate addressPredicate) {
             this.addressPredicate = addressPredicate;
+            clauses = null;
         }
 
         public void setPolicyPredicate(PolicyContainsNumbersPredicate policyPredicate) {
             this.policyPredicate = policyPredicate;
+            clauses = null;
         }
 
         public void setPolicyTypePredicate(PolicyTypeContainsKeywordsPredicate policyTypePredicate) {
             this.policyTypePredicate = policyTypePredicate;
+            clauses = null;
         }
 
         public void setTagPredicate(TagContainsKeywordsPredicate tagPredicate) {
             this.tagPredicate = tagPredicate;
+            clauses = null;
         }
 
         public Optional<NameContainsKeywordsPredicate> getNamePredicate() {
@@ -224,15 +249,100 @@ public class FindCommand extends Command {
 
         @Override
         public boolean test(Person person) {
-            boolean nameMatch = getNamePredicate().map(pred -> pred.test(person)).orElse(false);
-            boolean phoneMatch = getPhonePredicate().map(pred -> pred.test(person)).orElse(false);
-            boolean emailMatch = getEmailPredicate().map(pred -> pred.test(person)).orElse(false);
-            boolean addressMatch = getAddressPredicate().map(pred -> pred.test(person)).orElse(false);
-            boolean policyMatch = getPolicyPredicate().map(pred -> pred.test(person)).orElse(false);
-            boolean policyTypeMatch = getPolicyTypePredicate().map(pred -> pred.test(person)).orElse(false);
-            boolean tagMatch = getTagPredicate().map(pred -> pred.test(person)).orElse(false);
-            // Match if any predicate matches (OR logic)
-            return nameMatch || phoneMatch || emailMatch || addressMatch || policyMatch || policyTypeMatch || tagMatch;
+            // Match if any predicate matches (OR logic), stopping at the first match
+            List<Predicate<Person>> orderedClauses = getClauses();
+            for (int i = 0; i < orderedClauses.size(); i++) {
+                if (orderedClauses.get(i).test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the predicates that are set, in the order {@link #test(Person)} tries them.
+         * Until {@link #getCandidates(PersonSearchIndex)} has counted the candidates of each predicate, cheap exact
+         * comparisons go first, then substring searches from the shortest field to the longest.
+         */
+        private List<Predicate<Person>> getClauses() {
+            if (clauses == null) {
+                clauses = Stream.<Predicate<Person>>of(policyTypePredicate, tagPredicate, policyPredicate,
+                        phonePredicate, namePredicate, emailPredicate, addressPredicate)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+            }
+            return clauses;
+        }
+
+        /**
+         * {@inheritDoc}
+         * The number of candidates found for each predicate is also used to order the predicates, so that
+         * {@link #test(Person)} tries the ones leaving the most candidates first. As a person matches at its first
+         * matching predicate, this is the order that stops soonest.
+         */
+        @Override
+        public Optional<Set<Person>> getCandidates(PersonSearchIndex searchIndex) {
+            requireNonNull(searchIndex);
+            Map<Predicate<Person>, List<Optional<Set<Person>>>> keywordCandidates = new IdentityHashMap<>();
+            if (namePredicate != null) {
+                keywordCandidates.put(namePredicate, lookUp(namePredicate.getPreppedKeywords(), keyword ->
+                        searchIndex.getCandidates(PersonSearchIndex.Field.NAME, keyword)));
+            }
+            if (phonePredicate != null) {
+                keywordCandidates.put(phonePredicate, lookUp(phonePredicate.getPreppedNumbers(), number ->
+                        searchIndex.getCandidates(PersonSearchIndex.Field.PHONE, number)));
+            }
+            if (emailPredicate != null) {
+                keywordCandidates.put(emailPredicate, lookUp(emailPredicate.getPreppedKeywords(), keyword ->
+                        searchIndex.getCandidates(PersonSearchIndex.Field.EMAIL, keyword)));
+            }
+            if (addressPredicate != null) {
+                keywordCandidates.put(addressPredicate, lookUp(addressPredicate.getPreppedKeywords(), keyword ->
+                        searchIndex.getCandidates(PersonSearchIndex.Field.ADDRESS, keyword)));
+            }
+            if (policyPredicate != null) {
+                keywordCandidates.put(policyPredicate, lookUp(policyPredicate.getPreppedNumbers(), number ->
+                        searchIndex.getCandidates(PersonSearchIndex.Field.POLICY_NUMBER, number)));
+            }
+            if (policyTypePredicate != null) {
+                keywordCandidates.put(policyTypePredicate, lookUp(policyTypePredicate.getPolicyTypes(), type ->
+                        Optional.of(searchIndex.getPersonsWithPolicyType(type))));
+            }
+            if (tagPredicate != null) {
+                keywordCandidates.put(tagPredicate, lookUp(tagPredicate.getTags(), tag ->
+                        Optional.of(searchIndex.getPersonsWithTag(tag.tagName))));
+            }
+
+            // A person matches if any keyword matches, so the candidates are the union over all keywords
+            Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            Map<Predicate<Person>, Integer> candidateCounts = new IdentityHashMap<>();
+            for (Map.Entry<Predicate<Person>, List<Optional<Set<Person>>>> entry : keywordCandidates.entrySet()) {
+                int candidateCount = 0;
+                for (Optional<Set<Person>> keywordCandidate : entry.getValue()) {
+                    if (keywordCandidate.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    candidates.addAll(keywordCandidate.get());
+                    candidateCount += keywordCandidate.get().size();
+                }
+                candidateCounts.put(entry.getKey(), candidateCount);
+            }
+
+            // The sort is stable, so predicates with as many candidates keep their default order
+            List<Predicate<Person>> orderedClauses = new ArrayList<>(getClauses());
+            orderedClauses.sort(Comparator.comparing(candidateCounts::get, Comparator.reverseOrder()));
+            clauses = orderedClauses;
+            return Optional.of(candidates);
+        }
+
+        /**
+         * Returns the candidates {@code lookup} finds for each of {@code keywords}, or an empty list if there are
+         * no keywords.
+         */
+        private static <T> List<Optional<Set<Person>>> lookUp(Optional<? extends Collection<T>> keywords,
+                Function<T, Optional<Set<Person>>> lookup) {
+            return keywords.map(keywordList -> keywordList.stream().map(lookup).collect(Collectors.toList()))
+                    .orElse(List.of());
         }
 
         @Override
@@ -4,8 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POLICY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RENEWAL_DATE;
 
-import java.util.List;
-
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -31,8 +29,6 @@ public class RenewCommand extends Command {
 
     public static final String MESSAGE_RENEW_SUCCESS = "Updated renewal date for policy %1$s: %2$s";
     public static final String MESSAGE_POLICY_NOT_FOUND = "No client with policy number %1$s was found";
-    public static final String MESSAGE_MULTIPLE_POLICIES = "Multiple clients with policy number %1$s found. "
-            + "Please use edit command with index instead.";
 
     private final String policyNumber;
     private final RenewalDate newRenewalDate;
@@ -50,19 +46,9 @@ public class RenewCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        // Find the person with the specified policy number
-        List<Person> matchingPersons = model.getAddressBook().getPersonList().stream()
-                .filter(p -> p.getPolicy().getPolicyNumber().equals(policyNumber)).toList();
-
-        if (matchingPersons.isEmpty()) {
-            throw new CommandException(String.format(MESSAGE_POLICY_NOT_FOUND, policyNumber));
-        }
-        if (matchingPersons.size() > 1) {
-            throw new CommandException(String.format(MESSAGE_MULTIPLE_POLICIES, policyNumber));
-        }
-        // NOTE: This is here because I do not want to use more
-        // LOC to match the new no duplicate policy number requirement
-        Person personToUpdate = matchingPersons.get(0);
+        // Policy numbers are unique, so at most one person can match
+        Person personToUpdate = model.findByPolicyNumber(policyNumber)
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_POLICY_NOT_FOUND, policyNumber)));
         Person updatedPerson = createUpdatedPerson(personToUpdate);
         model.setPerson(personToUpdate, updatedPerson);
         return new CommandResult(String.format(MESSAGE_RENEW_SUCCESS, policyNumber, newRenewalDate));
@@ -87,6 +73,11 @@ public class RenewCommand extends Command {
         );
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -7,7 +7,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_ORDER;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -52,28 +51,32 @@ public class ViewRenewalsCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        Predicate<Person> renewalPredicate = person -> person.getPolicy().isRenewalDueWithin(days);
+        LocalDate startDate = model.getToday();
+        LocalDate endDate = startDate.plusDays(days);
 
-        model.updateRenewalsList(renewalPredicate);
+        model.updateRenewalsList(startDate, endDate);
         model.updateSortedRenewalsList(getComparator());
 
-        LocalDate startDate = LocalDate.now();
-        LocalDate endDate = startDate.plusDays(days);
-
-        if (model.getRenewalsList().isEmpty()) {
-            return new CommandResult(String.format(MESSAGE_NO_RENEWALS, days));
+        int renewalCount = model.getRenewalsList().size();
+        if (renewalCount == 0) {
+            return new CommandResult(String.format(MESSAGE_NO_RENEWALS, days))
+                    .withRenewalsFilter(CommandResult.RenewalsFilter.NONE)
+                    .withResultCount(0);
         }
         return new CommandResult(String.format(MESSAGE_SUCCESS + " between %s and %s",
-            model.getRenewalsList().size(), startDate.format(RenewalDate.DATE_FORMATTER),
-            endDate.format(RenewalDate.DATE_FORMATTER)));
+            renewalCount, startDate.format(RenewalDate.DATE_FORMATTER),
+            endDate.format(RenewalDate.DATE_FORMATTER)))
+                .withRenewalsFilter(CommandResult.RenewalsFilter.between(startDate, endDate))
+                .withResultCount(renewalCount);
     }
 
     private Comparator<Person> getComparator() {
         if (SORT_BY_NAME.equals(sortOrder)) {
             return Comparator.comparing(person -> person.getName().fullName);
         } else {
-            // Sort by days until renewal (ascending order)
-            return Comparator.comparingLong(person -> person.getPolicy().getDaysUntilRenewal());
+            // Sort by days until renewal (ascending order), which is the order of the renewal dates. Sorting on
+            // the dates themselves keeps the order valid after today has passed.
+            return Person.RENEWAL_DATE_COMPARATOR;
         }
     }
 
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
@@ -11,6 +12,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_POLICY_TYPE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RENEWAL_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.time.LocalDate;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -32,6 +34,16 @@ import seedu.address.model.tag.Tag;
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    private final LocalDate today;
+
+    /**
+     * Creates a {@code AddCommandParser} that checks dates against {@code today}.
+     */
+    public AddCommandParser(LocalDate today) {
+        requireNonNull(today);
+        this.today = today;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
@@ -73,7 +85,8 @@ public class AddCommandParser implements Parser<AddCommand> {
         Policy policy;
         if (argMultimap.getValue(PREFIX_RENEWAL_DATE).isPresent()) {
             try {
-                RenewalDate renewalDate = ParserUtil.parseRenewalDate(argMultimap.getValue(PREFIX_RENEWAL_DATE).get());
+                RenewalDate renewalDate = ParserUtil.parseRenewalDate(argMultimap.getValue(PREFIX_RENEWAL_DATE).get(),
+                        today);
                 if (argMultimap.getValue(PREFIX_POLICY_TYPE).isPresent()) {
                     PolicyType policyType = ParserUtil.parsePolicyType(argMultimap.getValue(PREFIX_POLICY_TYPE).get());
                     policy = new Policy(argMultimap.getValue(PREFIX_POLICY).get(), renewalDate, policyType);
@@ -86,9 +99,10 @@ public class AddCommandParser implements Parser<AddCommand> {
         } else {
             if (argMultimap.getValue(PREFIX_POLICY_TYPE).isPresent()) {
                 PolicyType policyType = ParserUtil.parsePolicyType(argMultimap.getValue(PREFIX_POLICY_TYPE).get());
-                policy = new Policy(argMultimap.getValue(PREFIX_POLICY).get(), new RenewalDate(), policyType);
+                policy = new Policy(argMultimap.getValue(PREFIX_POLICY).get(), new RenewalDate(today.plusYears(1)),
+                        policyType);
             } else {
-                policy = new Policy(argMultimap.getValue(PREFIX_POLICY).get());
+                policy = new Policy(argMultimap.getValue(PREFIX_POLICY).get(), new RenewalDate(today.plusYears(1)));
             }
         }
         return policy;
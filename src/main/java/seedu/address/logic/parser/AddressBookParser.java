@@ -1,8 +1,11 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.time.LocalDate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -33,6 +36,17 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final Supplier<LocalDate> today;
+
+    /**
+     * Creates an {@code AddressBookParser} that checks dates in commands against the date given by {@code today}
+     * when each command is parsed.
+     */
+    public AddressBookParser(Supplier<LocalDate> today) {
+        requireNonNull(today);
+        this.today = today;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -57,10 +71,10 @@ public class AddressBookParser {
         switch (commandWord) {
 
         case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
+            return new AddCommandParser(today.get()).parse(arguments);
 
         case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
+            return new EditCommandParser(today.get()).parse(arguments);
 
         case DeleteCommand.COMMAND_WORD:
             return new DeleteCommandParser().parse(arguments);
@@ -84,9 +98,9 @@ public class AddressBookParser {
             return new HelpCommand();
 
         case FilterDateCommand.COMMAND_WORD:
-            return new FilterDateCommandParser().parse(arguments);
+            return new FilterDateCommandParser(today.get()).parse(arguments);
         case RenewCommand.COMMAND_WORD:
-            return new RenewCommandParser().parse(arguments);
+            return new RenewCommandParser(today.get()).parse(arguments);
 
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
@@ -11,6 +11,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_POLICY_TYPE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RENEWAL_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
@@ -27,6 +28,16 @@ import seedu.address.model.tag.Tag;
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
+    private final LocalDate today;
+
+    /**
+     * Creates a {@code EditCommandParser} that checks dates against {@code today}.
+     */
+    public EditCommandParser(LocalDate today) {
+        requireNonNull(today);
+        this.today = today;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -64,7 +75,7 @@ public class EditCommandParser implements Parser<EditCommand> {
             }
             if (argMultimap.getValue(PREFIX_RENEWAL_DATE).isPresent()) {
                 editPersonDescriptor.setRenewalDate(
-                        ParserUtil.parseRenewalDate(argMultimap.getValue(PREFIX_RENEWAL_DATE).get()));
+                        ParserUtil.parseRenewalDate(argMultimap.getValue(PREFIX_RENEWAL_DATE).get(), today));
             }
             if (argMultimap.getValue(PREFIX_POLICY_TYPE).isPresent()) {
                 editPersonDescriptor.setPolicyType(
@@ -29,6 +29,17 @@ public class FilterDateCommandParser implements Parser<FilterDateCommand> {
             "Start date (sd/) and end date (ed/) are required.";
     private static final int MAX_YEARS_RANGE = 5;
 
+    private final LocalDate today;
+
+    /**
+     * Creates a {@code FilterDateCommandParser} that limits the end date to {@code MAX_YEARS_RANGE} years from
+     * {@code today}.
+     */
+    public FilterDateCommandParser(LocalDate today) {
+        requireNonNull(today);
+        this.today = today;
+    }
+
     @Override
     public FilterDateCommand parse(String args) throws ParseException {
         requireNonNull(args);
@@ -48,7 +59,7 @@ public class FilterDateCommandParser implements Parser<FilterDateCommand> {
             throw new ParseException(MESSAGE_INVALID_START_DATE);
         }
 
-        LocalDate maxAllowedDate = LocalDate.now().plusYears(MAX_YEARS_RANGE);
+        LocalDate maxAllowedDate = today.plusYears(MAX_YEARS_RANGE);
         if (endDate.isAfter(maxAllowedDate)) {
             throw new ParseException(MESSAGE_INVALID_END_DATE);
         }
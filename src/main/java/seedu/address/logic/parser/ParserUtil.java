@@ -227,7 +227,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -243,15 +243,15 @@ public class ParserUtil {
     }
 
     /**
-     * Parses a {@code String renewalDate} into a {@code RenewalDate}.
+     * Parses a {@code String renewalDate} into a {@code RenewalDate} after {@code today}.
      * Leading and trailing whitespaces will be trimmed.
      *
      * @throws ParseException if the given {@code renewalDate} is invalid.
      */
-    public static RenewalDate parseRenewalDate(String renewalDate) throws ParseException {
+    public static RenewalDate parseRenewalDate(String renewalDate, LocalDate today) throws ParseException {
         requireNonNull(renewalDate);
         String trimmedRenewalDate = renewalDate.trim();
-        if (!RenewalDate.isValidRenewalDate(trimmedRenewalDate)) {
+        if (!RenewalDate.isValidRenewalDate(trimmedRenewalDate, today)) {
             throw new ParseException(RenewalDate.DATE_CONSTRAINTS);
         }
         return new RenewalDate(trimmedRenewalDate);
@@ -1,9 +1,11 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POLICY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RENEWAL_DATE;
 
+import java.time.LocalDate;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.RenewCommand;
@@ -16,6 +18,16 @@ import seedu.address.model.person.RenewalDate;
  */
 public class RenewCommandParser implements Parser<RenewCommand> {
 
+    private final LocalDate today;
+
+    /**
+     * Creates a {@code RenewCommandParser} that checks dates against {@code today}.
+     */
+    public RenewCommandParser(LocalDate today) {
+        requireNonNull(today);
+        this.today = today;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the RenewCommand
      * and returns a RenewCommand object for execution.
@@ -39,7 +51,7 @@ public class RenewCommandParser implements Parser<RenewCommand> {
             throw new ParseException(Policy.MESSAGE_CONSTRAINTS);
         }
 
-        if (!RenewalDate.isValidRenewalDate(renewalDate)) {
+        if (!RenewalDate.isValidRenewalDate(renewalDate, today)) {
             throw new ParseException(RenewalDate.DATE_CONSTRAINTS);
         }
 
@@ -2,12 +2,16 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.parser.DateTimeParser;
+import seedu.address.model.person.IndexedPersonPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -18,10 +22,20 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    private static final int MIN_CHECKPOINT_INTERVAL = 1000;
+
     private final UniquePersonList persons;
 
     private LocalDateTime lastUpdated;
 
+    // Bumped on every change to the data, so that callers can tell whether anything changed
+    private long version;
+
+    // The latest change to the persons, and the last RESET change written to bound the changes kept
+    private AddressBookChange latestChange;
+    private AddressBookChange checkpoint;
+    private int changesSinceCheckpoint;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -33,8 +47,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
     }
 
+    /**
+     * Creates an empty AddressBook.
+     */
     public AddressBook() {
         this.lastUpdated = LocalDateTime.now();
+        this.latestChange = AddressBookChange.reset(null, List.of());
     }
 
     /**
@@ -53,6 +71,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        recordChange(AddressBookChange.reset(null, persons));
     }
 
     /**
@@ -61,7 +80,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        this.persons.setPersons(newData.getPersonList());
+        // Links to the changes of newData, so that a copy can still be brought up to date from them
+        recordChange(AddressBookChange.reset(newData.getLatestChange().orElse(null), newData.getPersonList()));
     }
 
     //// person-level operations
@@ -74,12 +95,48 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code policyNumber}, if any.
+     * Policy numbers are unique within the address book, so at most one person can match.
+     */
+    public Optional<Person> findByPolicyNumber(String policyNumber) {
+        requireNonNull(policyNumber);
+        return persons.findByPolicyNumber(policyNumber);
+    }
+
+    /**
+     * Returns the persons whose policy renewal date falls between {@code startDate} and {@code endDate} inclusive,
+     * in ascending order of renewal date.
+     */
+    public List<Person> getPersonsRenewingBetween(LocalDate startDate, LocalDate endDate) {
+        return persons.getPersonsRenewingBetween(startDate, endDate);
+    }
+
+    /**
+     * Returns a predicate matching the same persons as {@code predicate} from the search index, kept up to date as
+     * the address book changes until the next search, or {@code Optional#empty()} if the index cannot narrow down
+     * the persons {@code predicate} may match.
+     *
+     * @see UniquePersonList#search(IndexedPersonPredicate)
+     */
+    public Optional<Predicate<Person>> search(IndexedPersonPredicate predicate) {
+        return persons.search(predicate);
+    }
+
+    /**
+     * Stops keeping the matches of the current search up to date.
+     */
+    public void endSearch() {
+        persons.endSearch();
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        recordChange(AddressBookChange.add(latestChange, getPersonList().size() - 1, p));
     }
 
     /**
@@ -90,7 +147,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        int index = persons.setPerson(target, editedPerson);
+        recordChange(AddressBookChange.set(latestChange, index, editedPerson));
     }
 
     /**
@@ -98,7 +156,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        int index = persons.remove(key);
+        recordChange(AddressBookChange.remove(latestChange, index));
     }
 
     public LocalDateTime getLastUpdated() {
@@ -111,6 +170,40 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public void setLastUpdated(LocalDateTime lastUpdated) {
         this.lastUpdated = lastUpdated;
+        version++;
+    }
+
+    /**
+     * Returns the number of changes made to this address book so far.
+     * Any change to the persons or the last updated time increases the version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<AddressBookChange> getLatestChange() {
+        return Optional.of(latestChange);
+    }
+
+    /**
+     * Records {@code change} as the latest change to the persons.
+     * Every so often a RESET change holding all the persons is added as a checkpoint, and the changes before the
+     * previous checkpoint are forgotten. As checkpoints are at least as many changes apart as there are persons,
+     * copying the persons costs no more than the changes themselves.
+     */
+    private void recordChange(AddressBookChange change) {
+        latestChange = change;
+        version++;
+        if (++changesSinceCheckpoint < Math.max(MIN_CHECKPOINT_INTERVAL, getPersonList().size())) {
+            return;
+        }
+        if (checkpoint != null) {
+            checkpoint.forgetEarlierChanges();
+        }
+        checkpoint = AddressBookChange.reset(latestChange, getPersonList());
+        latestChange = checkpoint;
+        changesSinceCheckpoint = 0;
     }
 
     //// util methods
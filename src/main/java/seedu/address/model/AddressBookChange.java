@@ -0,0 +1,153 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable record of one change made to the persons of an {@code AddressBook}, linked to the change made before
+ * it. Following the links from the latest change gives the changes made since an earlier one, so that the persons can
+ * be brought up to date elsewhere (e.g. on another thread, or in a journal on disk) without copying the whole list.
+ *
+ * A {@link Kind#RESET} change holds a full copy of the persons. Every chain of changes ends at a RESET change, as
+ * earlier changes are only forgotten behind one.
+ */
+public final class AddressBookChange {
+
+    /**
+     * The kinds of change that can be made to the persons.
+     */
+    public enum Kind {
+        ADD, SET, REMOVE, RESET
+    }
+
+    private final Kind kind;
+    private final int index;
+    private final Person person;
+    private final List<Person> persons;
+
+    // The change made before this one, or null if it is not known. A RESET change with a previous change leaves the
+    // persons exactly as they were after that change. Volatile as it may be forgotten while another thread reads it.
+    private volatile AddressBookChange previous;
+
+    private AddressBookChange(AddressBookChange previous, Kind kind, int index, Person person, List<Person> persons) {
+        this.previous = previous;
+        this.kind = kind;
+        this.index = index;
+        this.person = person;
+        this.persons = persons;
+    }
+
+    /**
+     * Returns a change inserting {@code person} at {@code index}, made after {@code previous}.
+     */
+    static AddressBookChange add(AddressBookChange previous, int index, Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(previous, Kind.ADD, index, person, null);
+    }
+
+    /**
+     * Returns a change replacing the person at {@code index} with {@code person}, made after {@code previous}.
+     */
+    static AddressBookChange set(AddressBookChange previous, int index, Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(previous, Kind.SET, index, person, null);
+    }
+
+    /**
+     * Returns a change removing the person at {@code index}, made after {@code previous}.
+     */
+    static AddressBookChange remove(AddressBookChange previous, int index) {
+        return new AddressBookChange(previous, Kind.REMOVE, index, null, null);
+    }
+
+    /**
+     * Returns a change replacing every person with {@code persons}.
+     * {@code previous} may be null, and should only be given if the persons are unchanged after it.
+     */
+    public static AddressBookChange reset(AddressBookChange previous, List<Person> persons) {
+        return new AddressBookChange(previous, Kind.RESET, -1, null, List.copyOf(persons));
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the index of the person added, replaced or removed, or -1 for a RESET change.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the person added or put in place by an ADD or SET change, or null otherwise.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the persons after a RESET change, or null otherwise.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the changes made after {@code earlier}, up to and including this change, oldest first.
+     * If {@code earlier} is null or no longer linked to this change, the changes start with a RESET change holding
+     * all the persons. An empty list means the persons are unchanged since {@code earlier}.
+     */
+    public List<AddressBookChange> getChangesSince(AddressBookChange earlier) {
+        Deque<AddressBookChange> changes = new ArrayDeque<>();
+        AddressBookChange change = this;
+        while (change != earlier) {
+            AddressBookChange before = change.previous;
+            if (change.kind != Kind.RESET) {
+                changes.addFirst(change);
+            } else if (before == null) {
+                changes.addFirst(change);
+                break;
+            }
+            change = before;
+        }
+        return new ArrayList<>(changes);
+    }
+
+    /**
+     * Applies this change to {@code persons}, which must hold the persons as they were before this change.
+     */
+    public void applyTo(List<Person> persons) {
+        switch (kind) {
+        case ADD:
+            persons.add(index, person);
+            break;
+        case SET:
+            persons.set(index, person);
+            break;
+        case REMOVE:
+            persons.remove(index);
+            break;
+        case RESET:
+            persons.clear();
+            persons.addAll(this.persons);
+            break;
+        default:
+            throw new AssertionError(kind);
+        }
+    }
+
+    /**
+     * Forgets the changes made before this RESET change, so that they can be garbage collected.
+     */
+    void forgetEarlierChanges() {
+        assert kind == Kind.RESET;
+        previous = null;
+    }
+}
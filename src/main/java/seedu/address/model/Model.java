@@ -1,7 +1,9 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -56,11 +58,21 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a version number that changes whenever the data in the address book changes.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person with the given {@code policyNumber} in the address book, if any.
+     */
+    Optional<Person> findByPolicyNumber(String policyNumber);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -83,6 +95,12 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns today's date according to the model's clock.
+     * A query over renewals should call this once and compute every person's result against the returned date.
+     */
+    LocalDate getToday();
+
     /** Returns an unmodifiable view of the renewals list */
     ObservableList<Person> getRenewalsList();
 
@@ -98,6 +116,13 @@ public interface Model {
      */
     void updateRenewalsList(Predicate<Person> predicate);
 
+    /**
+     * Updates the renewals list to the persons whose renewal date falls between {@code startDate} and
+     * {@code endDate} inclusive.
+     * @throws NullPointerException if {@code startDate} or {@code endDate} is null.
+     */
+    void updateRenewalsList(LocalDate startDate, LocalDate endDate);
+
     /**
      * Updates the sorting of the renewals list using the given {@code comparator}.
      * @throws NullPointerException if {@code comparator} is null.
@@ -4,21 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.IndexedPersonPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -29,23 +34,33 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final Clock clock;
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
     private final ObservableList<Person> renewalsListSource;
     private final FilteredList<Person> filteredRenewalsList;
     private Comparator<Person> renewalsComparator;
-    private Predicate<Person> lastRenewalsPredicate;
+    private Predicate<Person> renewalsPredicate;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, taking today's date from {@code clock}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        requireAllNonNull(addressBook, userPrefs, clock);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.clock = clock;
+        this.addressBook.getPersonList().addListener(this::handlePersonListChange);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         sortedPersons = new SortedList<>(filteredPersons);
         renewalsListSource = FXCollections.observableArrayList();
@@ -104,22 +119,33 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findByPolicyNumber(String policyNumber) {
+        requireNonNull(policyNumber);
+        return addressBook.findByPolicyNumber(policyNumber);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
-        addressBook.setLastUpdated(LocalDateTime.now());
+        addressBook.setLastUpdated(LocalDateTime.now(clock));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        addressBook.setLastUpdated(LocalDateTime.now());
+        addressBook.setLastUpdated(LocalDateTime.now(clock));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -128,10 +154,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
-        addressBook.setLastUpdated(LocalDateTime.now());
-        if (lastRenewalsPredicate != null && !renewalsListSource.isEmpty()) {
-            updateRenewalsList(lastRenewalsPredicate);
-        }
+        addressBook.setLastUpdated(LocalDateTime.now(clock));
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -145,6 +168,11 @@ public class ModelManager implements Model {
         return sortedPersons;
     }
 
+    @Override
+    public LocalDate getToday() {
+        return LocalDate.now(clock);
+    }
+
     @Override
     public ObservableList<Person> getRenewalsList() {
         return FXCollections.unmodifiableObservableList(filteredRenewalsList);
@@ -153,26 +181,118 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate instanceof IndexedPersonPredicate) {
+            // The address book keeps the matches of the search up to date as persons change
+            filteredPersons.setPredicate(addressBook.search((IndexedPersonPredicate) predicate).orElse(predicate));
+        } else {
+            addressBook.endSearch();
+            filteredPersons.setPredicate(predicate);
+        }
     }
 
     @Override
     public void updateRenewalsList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        lastRenewalsPredicate = predicate;
-        // Clear the current renewals list
-        renewalsListSource.clear();
-        // Add all persons that match the predicate
-        List<Person> matchingPersons = addressBook.getPersonList().stream()
+        renewalsPredicate = predicate;
+        setRenewalsList(addressBook.getPersonList().stream()
                 .filter(predicate)
-                .collect(Collectors.toList());
-        renewalsListSource.addAll(matchingPersons);
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void updateRenewalsList(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        long startEpochDay = startDate.toEpochDay();
+        long endEpochDay = endDate.toEpochDay();
+        renewalsPredicate = person -> person.getPolicy().renewalDate.isBetween(startEpochDay, endEpochDay);
+        // Answered from the renewal date index, so the cost depends on the number of matches only
+        setRenewalsList(addressBook.getPersonsRenewingBetween(startDate, endDate));
+    }
+
+    /**
+     * Replaces the contents of the renewals list with {@code matchingPersons}, sorted by the current comparator.
+     * No change is fired if the list already holds them, so that views of the list are only updated when the
+     * result of a renewals query actually changes.
+     */
+    private void setRenewalsList(List<Person> matchingPersons) {
         // Apply sorting if a comparator is set
         if (renewalsComparator != null) {
-            updateSortedRenewalsList(renewalsComparator);
+            matchingPersons.sort(renewalsComparator);
+        }
+        if (!renewalsListSource.equals(matchingPersons)) {
+            renewalsListSource.setAll(matchingPersons);
         }
     }
 
+    /**
+     * Keeps the renewals list in step with changes to the address book, touching only the affected persons.
+     */
+    private void handlePersonListChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Person removedPerson : change.getRemoved()) {
+                int index = renewalsPredicate != null ? indexOfRenewal(removedPerson) : -1;
+                if (index >= 0) {
+                    renewalsListSource.remove(index);
+                }
+            }
+            for (Person addedPerson : change.getAddedSubList()) {
+                if (renewalsPredicate != null && renewalsPredicate.test(addedPerson)) {
+                    renewalsListSource.add(insertionPointOfRenewal(addedPerson), addedPerson);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index of {@code person} in the renewals list, or -1 if it is not in the list.
+     * Uses a binary search when the list is sorted, then scans the persons that compare equal to it.
+     */
+    private int indexOfRenewal(Person person) {
+        if (renewalsComparator == null) {
+            return renewalsListSource.indexOf(person);
+        }
+        int index = Collections.binarySearch(renewalsListSource, person, renewalsComparator);
+        if (index < 0) {
+            return -1;
+        }
+        for (int i = index; i >= 0 && renewalsComparator.compare(renewalsListSource.get(i), person) == 0; i--) {
+            if (renewalsListSource.get(i).equals(person)) {
+                return i;
+            }
+        }
+        for (int i = index + 1; i < renewalsListSource.size()
+                && renewalsComparator.compare(renewalsListSource.get(i), person) == 0; i++) {
+            if (renewalsListSource.get(i).equals(person)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index at which {@code person} should be inserted to keep the renewals list sorted.
+     * Persons are appended when no comparator is set, and after any persons that compare equal to them otherwise.
+     */
+    private int insertionPointOfRenewal(Person person) {
+        if (renewalsComparator == null) {
+            return renewalsListSource.size();
+        }
+        int low = 0;
+        int high = renewalsListSource.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (renewalsComparator.compare(renewalsListSource.get(mid), person) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     @Override
     public void updateSortedPersonList(Comparator<Person> comparator) {
         sortedPersons.setComparator(comparator);
@@ -182,12 +302,20 @@ public class ModelManager implements Model {
     public void updateSortedRenewalsList(Comparator<Person> comparator) {
         requireNonNull(comparator);
         this.renewalsComparator = comparator;
-        // Create a sorted copy of the current list
-        List<Person> sortedList = new ArrayList<>(renewalsListSource);
-        sortedList.sort(comparator);
-        // Clear and repopulate the source list in the sorted order
-        renewalsListSource.clear();
-        renewalsListSource.addAll(sortedList);
+        // Sorting in place fires a single permutation change instead of rebuilding the list, and none is needed
+        // if the list is in order already
+        if (!isSorted(renewalsListSource, comparator)) {
+            FXCollections.sort(renewalsListSource, comparator);
+        }
+    }
+
+    private static boolean isSorted(List<Person> persons, Comparator<Person> comparator) {
+        for (int i = 1; i < persons.size(); i++) {
+            if (comparator.compare(persons.get(i - 1), persons.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
@@ -20,4 +21,12 @@ public interface ReadOnlyAddressBook {
 
     String getLastUpdatedString();
 
+    /**
+     * Returns the latest change made to the persons, from which the earlier changes can be followed,
+     * or {@code Optional#empty()} if the changes are not recorded.
+     */
+    default Optional<AddressBookChange> getLatestChange() {
+        return Optional.empty();
+    }
+
 }
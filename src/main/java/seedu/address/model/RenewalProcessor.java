@@ -2,7 +2,6 @@ package seedu.address.model;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import seedu.address.model.person.Person;
 
@@ -11,64 +10,14 @@ import seedu.address.model.person.Person;
  */
 public class RenewalProcessor {
     /**
-     * Represents a processed renewal entry.
-     */
-    public static class RenewalEntry {
-        private final String client;
-        private final String policy;
-        private final LocalDate renewalDate;
-        private final long daysLeft;
-        private final String type;
-        private final String contact;
-        /**
-         * Constructs a renewal entry from a person.
-         *
-         * @param person the person to create the renewal entry from
-         */
-        public RenewalEntry(Person person) {
-            this.client = person.getName().toString();
-            this.policy = person.getPolicy().policyNumber;
-            this.renewalDate = person.getPolicy().renewalDate.value;
-            this.daysLeft = person.getPolicy().getDaysUntilRenewal();
-            this.type = person.getPolicy().getType().toString();
-            this.contact = person.getPhone().toString();
-        }
-
-        public String getClient() {
-            return client;
-        }
-
-        public String getPolicy() {
-            return policy;
-        }
-
-        public LocalDate getRenewalDate() {
-            return renewalDate;
-        }
-
-        public long getDaysLeft() {
-            return daysLeft;
-        }
-
-        public String getType() {
-            return type;
-        }
-
-        public String getContact() {
-            return contact;
-        }
-    }
-
-    /**
-     * Processes the list of persons and returns table data for renewals.
+     * Processes the list of persons and returns table data for renewals, counting the days left from
+     * {@code today} for every entry.
      *
      * @param persons List of persons to process
+     * @param today The date to count the days left from
      * @return Table data containing processed renewal entries
      */
-    public static RenewalTableData processRenewals(List<Person> persons) {
-        List<RenewalEntry> entries = persons.stream()
-                .map(RenewalEntry::new)
-                .collect(Collectors.toList());
-        return new RenewalTableData(entries);
+    public static RenewalTableData processRenewals(List<Person> persons, LocalDate today) {
+        return new RenewalTableData(persons, today);
     }
 }
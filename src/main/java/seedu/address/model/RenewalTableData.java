@@ -1,25 +1,299 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PolicyType;
 
 /**
  * Represents the column structure for renewal data.
+ * The data is held column by column, with the renewal dates, days left and policy types as primitives and the other
+ * columns read from the source {@code Person} of each row, so that building the table does not create an object
+ * per row.
+ *
+ * Each row is stored in a slot that it keeps for as long as it is in the table, and the column getters take that
+ * slot. {@link #getRows()} lists the slots of the rows in order, and {@link #applyChange(ListChangeListener.Change)}
+ * keeps the rows in step with changes to the source list, touching only the rows that changed.
  */
 public class RenewalTableData {
-    public static final String CLIENT_COLUMN = "client";
-    public static final String POLICY_COLUMN = "policy";
-    public static final String RENEWAL_DATE_COLUMN = "renewalDate";
-    public static final String DAYS_LEFT_COLUMN = "daysLeft";
-    public static final String TYPE_COLUMN = "type";
-    public static final String CONTACT_COLUMN = "contact";
+    private static final PolicyType[] POLICY_TYPES = PolicyType.values();
+    private static final int MIN_CAPACITY = 16;
+
+    private final Rows rows = new Rows();
+    private LocalDate today;
+    private Person[] persons;
+    private int[] renewalEpochDays;
+    private long[] daysLeft;
+    private byte[] policyTypeOrdinals;
+
+    // Slots below slotCount that hold no row, to be used before any new slot
+    private int[] freeSlots;
+    private int freeSlotCount;
+    private int slotCount;
 
-    private final List<RenewalProcessor.RenewalEntry> entries;
+    /**
+     * Creates the table data for {@code persons} in the same order, counting the days left from {@code today}.
+     */
+    public RenewalTableData(List<Person> persons, LocalDate today) {
+        requireAllNonNull(persons, today);
+        this.today = today;
+        int capacity = Math.max(MIN_CAPACITY, persons.size());
+        this.persons = new Person[capacity];
+        this.renewalEpochDays = new int[capacity];
+        this.daysLeft = new long[capacity];
+        this.policyTypeOrdinals = new byte[capacity];
+        this.freeSlots = new int[capacity];
 
-    public RenewalTableData(List<RenewalProcessor.RenewalEntry> entries) {
-        this.entries = entries;
+        rows.insertRows(0, takeSlots(persons));
     }
 
-    public List<RenewalProcessor.RenewalEntry> getEntries() {
-        return entries;
+    /**
+     * Returns the date the days left are counted from.
+     */
+    public LocalDate getToday() {
+        return today;
+    }
+
+    /**
+     * Counts the days left from {@code today} instead. The rows are unchanged, so no change is reported for them.
+     */
+    public void setToday(LocalDate today) {
+        requireNonNull(today);
+        long todayEpochDay = today.toEpochDay();
+        for (int i = 0; i < rows.size(); i++) {
+            int slot = rows.getSlot(i);
+            daysLeft[slot] = renewalEpochDays[slot] - todayEpochDay;
+        }
+        this.today = today;
+    }
+
+    /**
+     * Returns the number of rows.
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Returns the slots of the rows, in the order of the source list.
+     */
+    public ObservableList<Integer> getRows() {
+        return rows;
+    }
+
+    /**
+     * Applies {@code change}, made to the source list that this table data was created from, to the rows.
+     * Only the rows in the ranges added, removed, replaced, permutated or updated by the change are touched, and the
+     * same ranges are reported as a single change of {@link #getRows()}.
+     */
+    public void applyChange(ListChangeListener.Change<? extends Person> change) {
+        requireNonNull(change);
+        rows.beginRowChange();
+        try {
+            while (change.next()) {
+                int from = change.getFrom();
+                int to = change.getTo();
+                if (change.wasPermutated()) {
+                    rows.permute(from, to, change::getPermutation);
+                } else if (change.wasUpdated()) {
+                    for (int i = from; i < to; i++) {
+                        int slot = rows.getSlot(i);
+                        fillSlot(slot, change.getList().get(i));
+                        rows.update(i);
+                    }
+                } else {
+                    if (change.wasRemoved()) {
+                        rows.removeRows(from, from + change.getRemovedSize()).forEach(this::freeSlot);
+                    }
+                    if (change.wasAdded()) {
+                        rows.insertRows(from, takeSlots(change.getList().subList(from, to)));
+                    }
+                }
+            }
+        } finally {
+            rows.endRowChange();
+        }
+    }
+
+    public Person getPerson(int slot) {
+        return persons[slot];
+    }
+
+    public String getClient(int slot) {
+        return persons[slot].getName().fullName;
+    }
+
+    public String getPolicy(int slot) {
+        return persons[slot].getPolicy().policyNumber;
+    }
+
+    public LocalDate getRenewalDate(int slot) {
+        return LocalDate.ofEpochDay(renewalEpochDays[slot]);
+    }
+
+    public int getRenewalEpochDay(int slot) {
+        return renewalEpochDays[slot];
+    }
+
+    public long getDaysLeft(int slot) {
+        return daysLeft[slot];
+    }
+
+    public PolicyType getType(int slot) {
+        return POLICY_TYPES[policyTypeOrdinals[slot]];
+    }
+
+    public String getContact(int slot) {
+        return persons[slot].getPhone().value;
+    }
+
+    /**
+     * Stores the columns of each of {@code persons} in a free slot and returns the slots in the same order.
+     */
+    private int[] takeSlots(List<? extends Person> persons) {
+        int[] slots = new int[persons.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = takeSlot(persons.get(i));
+        }
+        return slots;
+    }
+
+    /**
+     * Stores the columns of {@code person} in a free slot and returns the slot.
+     */
+    private int takeSlot(Person person) {
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            if (slotCount == persons.length) {
+                growSlots();
+            }
+            slot = slotCount++;
+        }
+        fillSlot(slot, person);
+        return slot;
+    }
+
+    private void fillSlot(int slot, Person person) {
+        long renewalEpochDay = person.getRenewalEpochDay();
+        persons[slot] = person;
+        renewalEpochDays[slot] = Math.toIntExact(renewalEpochDay);
+        daysLeft[slot] = renewalEpochDay - today.toEpochDay();
+        policyTypeOrdinals[slot] = (byte) person.getPolicy().getType().ordinal();
+    }
+
+    /**
+     * Frees {@code slot}, letting go of its person so that it can be garbage collected.
+     */
+    private void freeSlot(int slot) {
+        persons[slot] = null;
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    private void growSlots() {
+        int capacity = persons.length * 2;
+        persons = Arrays.copyOf(persons, capacity);
+        renewalEpochDays = Arrays.copyOf(renewalEpochDays, capacity);
+        daysLeft = Arrays.copyOf(daysLeft, capacity);
+        policyTypeOrdinals = Arrays.copyOf(policyTypeOrdinals, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    /**
+     * The slots of the rows in order, reporting each change made to them to its listeners.
+     */
+    private static class Rows extends ObservableListBase<Integer> {
+        private int[] slots = new int[MIN_CAPACITY];
+        private int size;
+
+        @Override
+        public Integer get(int index) {
+            return getSlot(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        int getSlot(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return slots[index];
+        }
+
+        void beginRowChange() {
+            beginChange();
+        }
+
+        void endRowChange() {
+            endChange();
+        }
+
+        /**
+         * Inserts rows with the given {@code newSlots} at {@code index}.
+         */
+        void insertRows(int index, int[] newSlots) {
+            beginChange();
+            if (size + newSlots.length > slots.length) {
+                slots = Arrays.copyOf(slots, Math.max(size * 2, size + newSlots.length));
+            }
+            System.arraycopy(slots, index, slots, index + newSlots.length, size - index);
+            System.arraycopy(newSlots, 0, slots, index, newSlots.length);
+            size += newSlots.length;
+            nextAdd(index, index + newSlots.length);
+            endChange();
+        }
+
+        /**
+         * Removes the rows from {@code from}, inclusive, to {@code to}, exclusive, and returns their slots.
+         */
+        List<Integer> removeRows(int from, int to) {
+            beginChange();
+            List<Integer> removed = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                removed.add(slots[i]);
+            }
+            System.arraycopy(slots, to, slots, from, size - to);
+            size -= to - from;
+            nextRemove(from, removed);
+            endChange();
+            return removed;
+        }
+
+        /**
+         * Moves each row from {@code from}, inclusive, to {@code to}, exclusive, to the index {@code newIndex} gives
+         * for its current index.
+         */
+        void permute(int from, int to, IntUnaryOperator newIndex) {
+            beginChange();
+            int[] newIndexes = new int[to - from];
+            int[] permuted = new int[to - from];
+            for (int i = from; i < to; i++) {
+                newIndexes[i - from] = newIndex.applyAsInt(i);
+                permuted[newIndexes[i - from] - from] = slots[i];
+            }
+            System.arraycopy(permuted, 0, slots, from, to - from);
+            nextPermutation(from, to, newIndexes);
+            endChange();
+        }
+
+        void update(int index) {
+            beginChange();
+            nextUpdate(index);
+            endChange();
+        }
     }
 }
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -15,6 +16,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JOURNAL;
+    private int journalSyncInterval = 10;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setJournalSyncInterval(newUserPrefs.getJournalSyncInterval());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +61,33 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    /**
+     * Returns the number of changes appended to the address book journal that share a single write to the disk.
+     */
+    public int getJournalSyncInterval() {
+        return journalSyncInterval;
+    }
+
+    /**
+     * Sets the number of changes appended to the address book journal that share a single write to the disk.
+     * A larger interval makes saving cheaper, but more recent changes may be lost if the system crashes.
+     */
+    public void setJournalSyncInterval(int journalSyncInterval) {
+        if (journalSyncInterval < 1) {
+            throw new IllegalArgumentException("Journal sync interval must be at least 1.");
+        }
+        this.journalSyncInterval = journalSyncInterval;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +101,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.getFileName().equals(otherUserPrefs.addressBookFilePath.getFileName());
+                && addressBookFilePath.getFileName().equals(otherUserPrefs.addressBookFilePath.getFileName())
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && journalSyncInterval == otherUserPrefs.journalSyncInterval;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, journalSyncInterval);
     }
 
     @Override
@@ -82,6 +116,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath.getFileName());
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nJournal sync interval : " + journalSyncInterval);
         return sb.toString();
     }
 
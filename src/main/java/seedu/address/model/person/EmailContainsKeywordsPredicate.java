@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -13,9 +14,16 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class EmailContainsKeywordsPredicate implements Predicate<Person> {
     private final Set<Email> keywords;
+    private final String[] preppedKeywords;
 
+    /**
+     * Constructs a {@code EmailContainsKeywordsPredicate} matching any of the given {@code keywords}.
+     */
     public EmailContainsKeywordsPredicate(Set<Email> keywords) {
         this.keywords = keywords;
+        this.preppedKeywords = (keywords != null)
+                ? keywords.stream().map(keyword -> StringUtil.prepSearchTerm(keyword.value)).toArray(String[]::new)
+                : null;
     }
 
     /**
@@ -27,11 +35,24 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
         return (keywords != null) ? Optional.of(Collections.unmodifiableSet(keywords)) : Optional.empty();
     }
 
+    /**
+     * Returns the {@code keywords} prepped for matching by {@link StringUtil#prepSearchTerm(String)}, which is done
+     * once when this predicate is created.
+     * Returns {@code Optional#empty()} if {@code keywords} is null.
+     */
+    public Optional<List<String>> getPreppedKeywords() {
+        return (preppedKeywords != null) ? Optional.of(List.of(preppedKeywords)) : Optional.empty();
+    }
+
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        StringUtil.containsPartialWordIgnoreCase(person.getEmail().value, keyword.value));
+        String email = person.getSearchKeys().email();
+        for (String keyword : preppedKeywords) {
+            if (email.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
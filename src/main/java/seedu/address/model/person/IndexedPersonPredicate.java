@@ -0,0 +1,17 @@
+package seedu.address.model.person;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Person>} that can narrow down the persons it may match using a {@code PersonSearchIndex}.
+ */
+public interface IndexedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns a superset of the persons matching this predicate, looked up from {@code searchIndex},
+     * or {@code Optional#empty()} if the index cannot narrow the search and every person has to be tested.
+     */
+    Optional<Set<Person>> getCandidates(PersonSearchIndex searchIndex);
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -13,9 +14,16 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final Set<Name> keywords;
+    private final String[] preppedKeywords;
 
+    /**
+     * Constructs a {@code NameContainsKeywordsPredicate} matching any of the given {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(Set<Name> keywords) {
         this.keywords = keywords;
+        this.preppedKeywords = (keywords != null)
+                ? keywords.stream().map(keyword -> StringUtil.prepSearchTerm(keyword.fullName)).toArray(String[]::new)
+                : null;
     }
 
     /**
@@ -27,11 +35,24 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return (keywords != null) ? Optional.of(Collections.unmodifiableSet(keywords)) : Optional.empty();
     }
 
+    /**
+     * Returns the {@code keywords} prepped for matching by {@link StringUtil#prepSearchTerm(String)}, which is done
+     * once when this predicate is created.
+     * Returns {@code Optional#empty()} if {@code keywords} is null.
+     */
+    public Optional<List<String>> getPreppedKeywords() {
+        return (preppedKeywords != null) ? Optional.of(List.of(preppedKeywords)) : Optional.empty();
+    }
+
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        StringUtil.containsPartialWordIgnoreCase(person.getName().fullName, keyword.fullName));
+        String name = person.getSearchKeys().name();
+        for (String keyword : preppedKeywords) {
+            if (name.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
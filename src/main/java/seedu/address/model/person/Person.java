@@ -3,13 +3,13 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -17,6 +17,10 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    /** Orders persons by their renewal dates, comparing the dates as epoch days. */
+    public static final Comparator<Person> RENEWAL_DATE_COMPARATOR = Comparator.comparingLong(
+            Person::getRenewalEpochDay);
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -26,7 +30,10 @@ public class Person {
     private final Address address;
     private final Policy policy;
     private final Note note;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    // Derived from the fields above on first use
+    private SearchKeys searchKeys;
 
     /**
      * Every field must be present and not null.
@@ -39,7 +46,7 @@ public class Person {
         this.address = address;
         this.policy = policy;
         this.note = (note != null) ? note : Note.EMPTY;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     public Name getName() {
@@ -62,6 +69,16 @@ public class Person {
         return policy;
     }
 
+    /**
+     * Returns the normalized forms of this person's searchable details, which are computed once and then cached.
+     */
+    public SearchKeys getSearchKeys() {
+        if (searchKeys == null) {
+            searchKeys = SearchKeys.of(this);
+        }
+        return searchKeys;
+    }
+
     public String getRenewalDate() {
         return policy.renewalDate.toString();
     }
@@ -70,6 +87,10 @@ public class Person {
         return policy.renewalDate.value;
     }
 
+    public long getRenewalEpochDay() {
+        return policy.renewalDate.toEpochDay();
+    }
+
     public Note getNote() {
         return note;
     }
@@ -78,8 +99,8 @@ public class Person {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
@@ -0,0 +1,181 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index over the searchable details of the persons in a {@code UniquePersonList}.
+ * Free-text fields are indexed by the trigrams of their normalized {@link SearchKeys}, so that a partial word
+ * search only has to look at the persons sharing every trigram of the search term.
+ * Tags and policy types are indexed by exact value.
+ *
+ * Candidate sets returned by this index may contain persons that do not actually match the search term, and
+ * must be checked against the original predicate. They never miss a person that does match.
+ */
+public class PersonSearchIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    /**
+     * Free-text fields that can be searched by partial word.
+     */
+    public enum Field {
+        NAME(SearchKeys::name),
+        PHONE(SearchKeys::phone),
+        EMAIL(SearchKeys::email),
+        ADDRESS(SearchKeys::address),
+        POLICY_NUMBER(SearchKeys::policyNumber);
+
+        private final Function<SearchKeys, String> keyExtractor;
+
+        Field(Function<SearchKeys, String> keyExtractor) {
+            this.keyExtractor = keyExtractor;
+        }
+    }
+
+    private final Map<Field, Map<String, Set<Person>>> gramIndexes = new EnumMap<>(Field.class);
+    private final Map<String, Set<Person>> tagIndex = new HashMap<>();
+    private final Map<PolicyType, Set<Person>> policyTypeIndex = new EnumMap<>(PolicyType.class);
+
+    PersonSearchIndex() {
+        for (Field field : Field.values()) {
+            gramIndexes.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns a new set of the persons whose {@code field} may contain {@code preppedSearchTerm}, or
+     * {@code Optional#empty()} if the term is too short to be looked up and every person is a candidate.
+     * The term must already be prepped by {@link StringUtil#prepSearchTerm(String)}, as the search keys are
+     * normalized in the same way.
+     */
+    public Optional<Set<Person>> getCandidates(Field field, String preppedSearchTerm) {
+        requireAllNonNull(field, preppedSearchTerm);
+        if (preppedSearchTerm.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        Map<String, Set<Person>> gramIndex = gramIndexes.get(field);
+        List<Set<Person>> postings = new ArrayList<>();
+        for (String gram : gramsOf(preppedSearchTerm)) {
+            Set<Person> posting = gramIndex.get(gram);
+            if (posting == null) {
+                return Optional.of(newPersonSet());
+            }
+            postings.add(posting);
+        }
+
+        // Intersect starting from the rarest trigram to keep the working set small
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Person> candidates = newPersonSet();
+        candidates.addAll(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns a new set of the persons with a tag named {@code tagName}, ignoring case.
+     */
+    public Set<Person> getPersonsWithTag(String tagName) {
+        requireNonNull(tagName);
+        Set<Person> persons = newPersonSet();
+        persons.addAll(tagIndex.getOrDefault(tagName.toLowerCase(), Collections.emptySet()));
+        return persons;
+    }
+
+    /**
+     * Returns a new set of the persons holding a policy of the given {@code policyType}.
+     */
+    public Set<Person> getPersonsWithPolicyType(PolicyType policyType) {
+        requireNonNull(policyType);
+        Set<Person> persons = newPersonSet();
+        persons.addAll(policyTypeIndex.getOrDefault(policyType, Collections.emptySet()));
+        return persons;
+    }
+
+    /**
+     * Adds the searchable details of {@code person} to the index.
+     */
+    void add(Person person) {
+        for (Field field : Field.values()) {
+            Map<String, Set<Person>> gramIndex = gramIndexes.get(field);
+            for (String gram : gramsOf(field.keyExtractor.apply(person.getSearchKeys()))) {
+                gramIndex.computeIfAbsent(gram, key -> newPersonSet()).add(person);
+            }
+        }
+        for (Tag tag : person.getTags()) {
+            tagIndex.computeIfAbsent(tag.tagName.toLowerCase(), key -> newPersonSet()).add(person);
+        }
+        policyTypeIndex.computeIfAbsent(person.getPolicy().getType(), key -> newPersonSet()).add(person);
+    }
+
+    /**
+     * Removes the searchable details of {@code person} from the index.
+     */
+    void remove(Person person) {
+        for (Field field : Field.values()) {
+            Map<String, Set<Person>> gramIndex = gramIndexes.get(field);
+            for (String gram : gramsOf(field.keyExtractor.apply(person.getSearchKeys()))) {
+                removeFromPosting(gramIndex, gram, person);
+            }
+        }
+        for (Tag tag : person.getTags()) {
+            removeFromPosting(tagIndex, tag.tagName.toLowerCase(), person);
+        }
+        removeFromPosting(policyTypeIndex, person.getPolicy().getType(), person);
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        gramIndexes.values().forEach(Map::clear);
+        tagIndex.clear();
+        policyTypeIndex.clear();
+    }
+
+    private static <K> void removeFromPosting(Map<K, Set<Person>> index, K key, Person person) {
+        Set<Person> posting = index.get(key);
+        if (posting == null) {
+            return;
+        }
+        posting.remove(person);
+        if (posting.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static Set<String> gramsOf(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns an empty set that compares persons by reference, which is all the index needs since it only holds
+     * the instances stored in the backing list.
+     */
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -13,9 +14,16 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class PhoneContainsNumbersPredicate implements Predicate<Person> {
     private final Set<Phone> numbers;
+    private final String[] preppedNumbers;
 
+    /**
+     * Constructs a {@code PhoneContainsNumbersPredicate} matching any of the given {@code numbers}.
+     */
     public PhoneContainsNumbersPredicate(Set<Phone> numbers) {
         this.numbers = numbers;
+        this.preppedNumbers = (numbers != null)
+                ? numbers.stream().map(number -> StringUtil.prepSearchTerm(number.value)).toArray(String[]::new)
+                : null;
     }
 
     /**
@@ -27,10 +35,24 @@ public class PhoneContainsNumbersPredicate implements Predicate<Person> {
         return (numbers != null) ? Optional.of(Collections.unmodifiableSet(numbers)) : Optional.empty();
     }
 
+    /**
+     * Returns the {@code numbers} prepped for matching by {@link StringUtil#prepSearchTerm(String)}, which is done once
+     * when this predicate is created.
+     * Returns {@code Optional#empty()} if {@code numbers} is null.
+     */
+    public Optional<List<String>> getPreppedNumbers() {
+        return (preppedNumbers != null) ? Optional.of(List.of(preppedNumbers)) : Optional.empty();
+    }
+
     @Override
     public boolean test(Person person) {
-        return numbers.stream()
-                .anyMatch(number -> StringUtil.containsPartialWordIgnoreCase(person.getPhone().value, number.value));
+        String phone = person.getSearchKeys().phone();
+        for (String number : preppedNumbers) {
+            if (phone.contains(number)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Person's policy in the address book.
@@ -14,6 +15,8 @@ public class Policy {
             "Policy should only contain numbers, and it should not be blank";
     public static final String VALIDATION_REGEX = "\\d+";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String policyNumber;
     public final RenewalDate renewalDate;
     private final PolicyType type;
@@ -67,7 +70,7 @@ public class Policy {
      * Returns true if a given string is a valid policy.
      */
     public static boolean isValidPolicy(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public String getPolicyNumber() {
@@ -82,32 +85,17 @@ public class Policy {
     }
 
     /**
-     * Returns true if a given string is a valid renewal date.
-     */
-    public static boolean isValidRenewalDate(String test) {
-        return RenewalDate.isValidRenewalDate(test);
-    }
-
-    /**
-     * Returns the number of days until renewal.
-     */
-    public long getDaysUntilRenewal() {
-        return renewalDate.getDaysUntilRenewal();
-    }
-
-    /**
-     * Returns true if the policy is due for renewal within the specified number of days.
+     * Returns the number of days from {@code today} until renewal.
      */
-    public boolean isRenewalDueWithin(int days) {
-        return renewalDate.isRenewalDueWithin(days);
+    public long getDaysUntilRenewal(LocalDate today) {
+        return renewalDate.getDaysUntilRenewal(today);
     }
 
     /**
-     * Returns true if the policy is due for renewal within the specified date range.
+     * Returns true if the policy is due for renewal within the specified number of days from {@code today}.
      */
-    public boolean isRenewalDueWithinDateRange(LocalDate startDate, LocalDate endDate) {
-        return (renewalDate.value.isEqual(startDate) || renewalDate.value.isAfter(startDate))
-                && (renewalDate.value.isEqual(endDate) || renewalDate.value.isBefore(endDate));
+    public boolean isRenewalDueWithin(int days, LocalDate today) {
+        return renewalDate.isRenewalDueWithin(days, today);
     }
 
     @Override
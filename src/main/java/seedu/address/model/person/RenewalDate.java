@@ -4,94 +4,135 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 
 /**
  * Represents a renewal date in the address book.
- * Guarantees: immutable; is valid as declared in {@link #isValidRenewalDate(String)}
+ * Guarantees: immutable; is a valid date as declared in {@link #isValidDate(String)}
  */
 public class RenewalDate {
     public static final String DATE_CONSTRAINTS =
             "Renewal date should be a valid date in DD-MM-YYYY format and must be a future date";
     public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
 
+    private static final int DATE_LENGTH = "DD-MM-YYYY".length();
+
     public final LocalDate value;
+    // Kept alongside the date so that comparisons and range checks work on a primitive
+    private final long epochDay;
 
     /**
      * Constructs a {@code RenewalDate} with renewal date set to 1 year from now.
      */
     public RenewalDate() {
         this.value = LocalDate.now().plusYears(1);
+        this.epochDay = value.toEpochDay();
     }
 
     /**
      * Constructs a {@code RenewalDate} with a specific renewal date.
+     * Only the format is checked, so that renewal dates that have since passed can still be loaded.
      *
-     * @param renewalDate A valid renewal date in DD-MM-YYYY format.
+     * @param renewalDate A valid date in DD-MM-YYYY format.
      */
     public RenewalDate(String renewalDate) {
         requireNonNull(renewalDate);
-        checkArgument(isValidRenewalDate(renewalDate), DATE_CONSTRAINTS);
-        this.value = LocalDate.parse(renewalDate, DATE_FORMATTER);
+        checkArgument(isValidDate(renewalDate), DATE_CONSTRAINTS);
+        this.value = parseDate(renewalDate);
+        this.epochDay = value.toEpochDay();
+    }
+
+    /**
+     * Constructs a {@code RenewalDate} on {@code date}.
+     */
+    public RenewalDate(LocalDate date) {
+        requireNonNull(date);
+        this.value = date;
+        this.epochDay = value.toEpochDay();
     }
 
     /**
-     * Returns true if a given string is a valid renewal date.
+     * Returns true if a given string is a valid date in DD-MM-YYYY format.
      */
-    public static boolean isValidRenewalDate(String test) {
+    public static boolean isValidDate(String test) {
+        return test != null && parseDate(test) != null;
+    }
+
+    /**
+     * Returns true if a given string is a valid renewal date, that is a valid date after {@code today}.
+     */
+    public static boolean isValidRenewalDate(String test, LocalDate today) {
+        requireNonNull(today);
         if (test == null) {
             return false;
         }
-        // First check regex
-        if (!test.matches("\\d{2}-\\d{2}-\\d{4}")) {
-            return false;
+        LocalDate inputDate = parseDate(test);
+        return inputDate != null && inputDate.isAfter(today);
+    }
+
+    /**
+     * Returns the date {@code test} stands for in DD-MM-YYYY format, or null if it is not such a date.
+     * The string is scanned by hand, as this runs for every person loaded.
+     */
+    private static LocalDate parseDate(String test) {
+        if (test.length() != DATE_LENGTH || test.charAt(2) != '-' || test.charAt(5) != '-') {
+            return null;
         }
-        try {
-            // Split into components
-            String[] parts = test.split("-");
-            int day = Integer.parseInt(parts[0]);
-            int month = Integer.parseInt(parts[1]);
-            int year = Integer.parseInt(parts[2]);
-            // validate month
-            if (month < 1 || month > 12) {
-                return false;
-            }
-            // validate days(for leap years too)
-            int maxDays;
-            switch (month) {
-            case 4: case 6: case 9: case 11:
-                maxDays = 30;
-                break;
-            case 2:
-                boolean isLeapYear = (year % 4 == 0 && year % 100 != 0) || (year % 400 == 0);
-                maxDays = isLeapYear ? 29 : 28;
-                break;
-            default:
-                maxDays = 31;
-            }
-            if (day < 1 || day > maxDays) {
-                return false;
+        int day = parseDigits(test, 0, 2);
+        int month = parseDigits(test, 3, 5);
+        int year = parseDigits(test, 6, DATE_LENGTH);
+        // year 0 is not a valid year of era in the DD-MM-YYYY format
+        if (day < 1 || month < 1 || month > 12 || year < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Returns the number made up of the characters of {@code test} from {@code start} to {@code end}, or -1 if
+     * they are not all ASCII digits.
+     */
+    private static int parseDigits(String test, int start, int end) {
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
             }
-            LocalDate inputDate = LocalDate.parse(test, DATE_FORMATTER);
-            LocalDate now = LocalDate.now();
-            return inputDate.isAfter(now);
-        } catch (Exception e) {
-            return false;
+            number = number * 10 + (c - '0');
         }
+        return number;
+    }
+
+    /**
+     * Returns the number of days from {@code today} until renewal.
+     */
+    public long getDaysUntilRenewal(LocalDate today) {
+        return epochDay - today.toEpochDay();
+    }
+
+    /**
+     * Returns the renewal date as the number of days since 1970-01-01, as {@link LocalDate#toEpochDay()} does.
+     */
+    public long toEpochDay() {
+        return epochDay;
     }
 
     /**
-     * Returns the number of days until renewal.
+     * Returns true if the renewal date falls between the epoch days {@code startEpochDay} and {@code endEpochDay}
+     * inclusive.
      */
-    public long getDaysUntilRenewal() {
-        return java.time.temporal.ChronoUnit.DAYS.between(LocalDate.now(), value);
+    public boolean isBetween(long startEpochDay, long endEpochDay) {
+        return epochDay >= startEpochDay && epochDay <= endEpochDay;
     }
 
     /**
-     * Returns true if the renewal is due within the specified number of days.
+     * Returns true if the renewal is due within the specified number of days from {@code today}.
      */
-    public boolean isRenewalDueWithin(int days) {
-        long daysUntil = getDaysUntilRenewal();
+    public boolean isRenewalDueWithin(int days, LocalDate today) {
+        long daysUntil = getDaysUntilRenewal(today);
         return daysUntil >= 0 && daysUntil <= days;
     }
 
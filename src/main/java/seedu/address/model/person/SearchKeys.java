@@ -0,0 +1,24 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.StringUtil.normalizeForSearch;
+
+/**
+ * The normalized forms of a {@code Person}'s searchable details, as produced by
+ * {@link seedu.address.commons.util.StringUtil#normalizeForSearch(String)}.
+ * Search terms prepped with {@link seedu.address.commons.util.StringUtil#prepSearchTerm(String)} can be matched
+ * against these with a plain {@code String#contains(CharSequence)}.
+ */
+public record SearchKeys(String name, String phone, String email, String address, String policyNumber) {
+
+    /**
+     * Returns the search keys of {@code person}.
+     */
+    static SearchKeys of(Person person) {
+        return new SearchKeys(
+                normalizeForSearch(person.getName().fullName),
+                normalizeForSearch(person.getPhone().value),
+                normalizeForSearch(person.getEmail().value),
+                normalizeForSearch(person.getAddress().value),
+                normalizeForSearch(person.getPolicy().getPolicyNumber()));
+    }
+}
@@ -7,15 +7,24 @@ import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} matches any of the provided tags.
  */
 public class TagContainsKeywordsPredicate implements Predicate<Person> {
     private final Set<Tag> tags;
+    // Copied from the tags, so that testing a person does not need an iterator
+    private final String[] tagNames;
 
+    /**
+     * Creates a predicate matching persons with any of {@code tags}.
+     */
     public TagContainsKeywordsPredicate(Set<Tag> tags) {
         this.tags = tags;
+        this.tagNames = (tags != null)
+                ? tags.stream().map(tag -> tag.tagName).toArray(String[]::new)
+                : new String[0];
     }
 
     /**
@@ -29,11 +38,13 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return tags.stream()
-                .anyMatch(tag ->
-                        person.getTags().stream()
-                                .anyMatch(personTag ->
-                                        personTag.tagName.equalsIgnoreCase(tag.tagName)));
+        TagSet personTags = person.getTags();
+        for (String tagName : tagNames) {
+            if (personTags.containsIgnoreCase(tagName)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -3,8 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +27,12 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered from hash indexes over the fields compared by {@code Person#isSamePerson(Person)}
+ * (policy number, name and email, name and phone), which are kept in step with the backing list.
+ * A sorted index over renewal dates and a {@link PersonSearchIndex} over searchable details are kept in the same
+ * way to answer renewal date range queries and keyword searches, along with the persons matching the current search.
+ * The indexes are updated before the backing list, so that listeners of the list always see them up to date.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,12 +43,64 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<String, Person> policyNumberIndex = new HashMap<>();
+    private final Map<NameAndEmail, Person> nameAndEmailIndex = new HashMap<>();
+    private final Map<NameAndPhone, Person> nameAndPhoneIndex = new HashMap<>();
+    private final NavigableMap<LocalDate, List<Person>> renewalDateIndex = new TreeMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    private SearchMatches searchMatches;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return isIdentityTaken(toCheck, null);
+    }
+
+    /**
+     * Returns the person with the given {@code policyNumber}, or {@code Optional#empty()} if there is none.
+     */
+    public Optional<Person> findByPolicyNumber(String policyNumber) {
+        requireNonNull(policyNumber);
+        return Optional.ofNullable(policyNumberIndex.get(policyNumber));
+    }
+
+    /**
+     * Returns the persons whose policy renewal date falls between {@code startDate} and {@code endDate} inclusive,
+     * in ascending order of renewal date. Persons renewing on the same date are in the order of this list.
+     * Returns an empty list if {@code startDate} is after {@code endDate}.
+     */
+    public List<Person> getPersonsRenewingBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<Person> matchingPersons = new ArrayList<>();
+        if (startDate.isAfter(endDate)) {
+            return matchingPersons;
+        }
+        renewalDateIndex.subMap(startDate, true, endDate, true).values().forEach(matchingPersons::addAll);
+        return matchingPersons;
+    }
+
+    /**
+     * Returns a predicate matching the same persons as {@code predicate}, which answers from the persons found
+     * through the search index with a set lookup. The matches are kept up to date as the list changes, until
+     * another search is started or {@link #endSearch()} is called.
+     * Returns {@code Optional#empty()}, and ends the current search, if the index cannot narrow down the persons
+     * {@code predicate} may match.
+     */
+    public Optional<Predicate<Person>> search(IndexedPersonPredicate predicate) {
+        requireNonNull(predicate);
+        searchMatches = predicate.getCandidates(searchIndex)
+                .map(candidates -> new SearchMatches(predicate, candidates))
+                .orElse(null);
+        return Optional.ofNullable(searchMatches);
+    }
+
+    /**
+     * Stops keeping the matches of the current search up to date.
+     */
+    public void endSearch() {
+        searchMatches = null;
     }
 
     /**
@@ -45,6 +112,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        addToIndexes(toAdd);
         internalList.add(toAdd);
     }
 
@@ -52,8 +120,10 @@ public class UniquePersonList implements Iterable<Person> {
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the index of the replaced person.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public int setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
         int index = internalList.indexOf(target);
@@ -61,39 +131,56 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person existing = internalList.get(index);
+        if (isIdentityTaken(editedPerson, existing)) {
             throw new DuplicatePersonException();
         }
 
+        removeFromIndexes(existing);
+        addToIndexes(editedPerson);
+        moveToListOrderInRenewalDateIndex(editedPerson, index);
         internalList.set(index, editedPerson);
+        return index;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the index the person was removed from.
      */
-    public void remove(Person toRemove) {
+    public int remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        // The indexes hold the stored instance, which may be a different but equal object to toRemove
+        removeFromIndexes(internalList.get(index));
+        internalList.remove(index);
+        return index;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every conflicting pair if {@code persons} contains duplicates.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<String> conflicts = findConflicts(persons);
+        if (!conflicts.isEmpty()) {
+            throw new DuplicatePersonException(conflicts);
         }
 
+        rebuildIndexes(persons);
         internalList.setAll(persons);
     }
 
@@ -135,16 +222,166 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns true if any person in the list other than {@code ignored} has the same identity as {@code person}.
+     * {@code ignored} may be null, in which case every person in the list is considered.
+     */
+    private boolean isIdentityTaken(Person person, Person ignored) {
+        return isTakenByOther(policyNumberIndex.get(person.getPolicy().getPolicyNumber()), ignored)
+                || isTakenByOther(nameAndEmailIndex.get(new NameAndEmail(person)), ignored)
+                || isTakenByOther(nameAndPhoneIndex.get(new NameAndPhone(person)), ignored);
+    }
+
+    private static boolean isTakenByOther(Person indexedPerson, Person ignored) {
+        return indexedPerson != null && indexedPerson != ignored;
+    }
+
+    private void addToIndexes(Person person) {
+        policyNumberIndex.put(person.getPolicy().getPolicyNumber(), person);
+        nameAndEmailIndex.put(new NameAndEmail(person), person);
+        nameAndPhoneIndex.put(new NameAndPhone(person), person);
+        renewalDateIndex.computeIfAbsent(person.getRenewalDateValue(), date -> new ArrayList<>()).add(person);
+        searchIndex.add(person);
+        if (searchMatches != null) {
+            searchMatches.addIfMatching(person);
+        }
+    }
+
+    private void removeFromIndexes(Person person) {
+        policyNumberIndex.remove(person.getPolicy().getPolicyNumber());
+        nameAndEmailIndex.remove(new NameAndEmail(person));
+        nameAndPhoneIndex.remove(new NameAndPhone(person));
+        List<Person> sameDatePersons = renewalDateIndex.get(person.getRenewalDateValue());
+        sameDatePersons.remove(person);
+        if (sameDatePersons.isEmpty()) {
+            renewalDateIndex.remove(person.getRenewalDateValue());
+        }
+        searchIndex.remove(person);
+        if (searchMatches != null) {
+            searchMatches.remove(person);
+        }
+    }
+
+    /**
+     * Moves {@code person}, which {@link #addToIndexes(Person)} put last among the persons renewing on its date, to
+     * its place in list order given that it goes at {@code index} in the list.
+     * Only the persons before {@code index} are looked at, so this must be called before the list is changed.
+     */
+    private void moveToListOrderInRenewalDateIndex(Person person, int index) {
+        List<Person> sameDatePersons = renewalDateIndex.get(person.getRenewalDateValue());
+        if (sameDatePersons.size() == 1) {
+            return;
+        }
+
+        long renewalEpochDay = person.getRenewalEpochDay();
+        int position = 0;
+        for (int i = 0; i < index; i++) {
+            if (internalList.get(i).getRenewalEpochDay() == renewalEpochDay) {
+                position++;
+            }
+        }
+        sameDatePersons.add(position, sameDatePersons.remove(sameDatePersons.size() - 1));
+    }
+
+    private void rebuildIndexes(List<Person> persons) {
+        policyNumberIndex.clear();
+        nameAndEmailIndex.clear();
+        nameAndPhoneIndex.clear();
+        renewalDateIndex.clear();
+        searchIndex.clear();
+        if (searchMatches != null) {
+            searchMatches.clear();
+        }
+        persons.forEach(this::addToIndexes);
+    }
+
+    /**
+     * Index key for the name and email identity of a person.
+     */
+    private record NameAndEmail(Name name, Email email) {
+        NameAndEmail(Person person) {
+            this(person.getName(), person.getEmail());
+        }
+    }
+
+    /**
+     * Index key for the name and phone identity of a person.
+     */
+    private record NameAndPhone(Name name, Phone phone) {
+        NameAndPhone(Person person) {
+            this(person.getName(), person.getPhone());
+        }
+    }
+
+    /**
+     * Matches the persons found through the search index for an {@code IndexedPersonPredicate}, so that filtering
+     * only needs a set lookup per person. Kept up to date as persons are added, edited or removed.
+     */
+    private static class SearchMatches implements Predicate<Person> {
+        private final IndexedPersonPredicate predicate;
+        private final Set<Person> matches;
+
+        SearchMatches(IndexedPersonPredicate predicate, Set<Person> candidates) {
+            candidates.removeIf(candidate -> !predicate.test(candidate));
+            this.predicate = predicate;
+            this.matches = candidates;
+        }
+
+        void addIfMatching(Person person) {
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+
+        void remove(Person person) {
+            matches.remove(person);
+        }
+
+        void clear() {
+            matches.clear();
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return matches.contains(person);
+        }
+    }
+
+    /**
+     * Returns a description of every person in {@code persons} that has the same identity as an earlier person,
+     * or an empty list if {@code persons} contains only unique persons.
+     * Each person is reported at most once against each earlier person it clashes with.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static List<String> findConflicts(List<Person> persons) {
+        Map<String, Integer> firstByPolicyNumber = new HashMap<>();
+        Map<NameAndEmail, Integer> firstByNameAndEmail = new HashMap<>();
+        Map<NameAndPhone, Integer> firstByNameAndPhone = new HashMap<>();
+        List<String> conflicts = new ArrayList<>();
+
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            Integer byPolicyNumber = firstByPolicyNumber.putIfAbsent(person.getPolicy().getPolicyNumber(), i);
+            Integer byNameAndEmail = firstByNameAndEmail.putIfAbsent(new NameAndEmail(person), i);
+            Integer byNameAndPhone = firstByNameAndPhone.putIfAbsent(new NameAndPhone(person), i);
+
+            addConflict(conflicts, persons, byPolicyNumber, i);
+            if (byNameAndEmail != null && !byNameAndEmail.equals(byPolicyNumber)) {
+                addConflict(conflicts, persons, byNameAndEmail, i);
             }
+            if (byNameAndPhone != null && !byNameAndPhone.equals(byPolicyNumber)
+                    && !byNameAndPhone.equals(byNameAndEmail)) {
+                addConflict(conflicts, persons, byNameAndPhone, i);
+            }
+        }
+        return conflicts;
+    }
+
+    private static void addConflict(List<String> conflicts, List<Person> persons, Integer earlierIndex, int index) {
+        if (earlierIndex == null) {
+            return;
         }
-        return true;
+        Person earlier = persons.get(earlierIndex);
+        Person later = persons.get(index);
+        conflicts.add(String.format("#%d %s and #%d %s have the same %s", earlierIndex + 1, earlier.getName(),
+                index + 1, later.getName(), earlier.getDuplicateReason(later)));
     }
 }
@@ -1,11 +1,37 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private static final String MESSAGE = "Operation would result in duplicate persons";
+
+    private final List<String> conflicts;
+
+    /**
+     * Constructs a {@code DuplicatePersonException} without recording the conflicting persons.
+     */
     public DuplicatePersonException() {
-        super("Operation would result in duplicate persons");
+        super(MESSAGE);
+        this.conflicts = List.of();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that lists every conflict in {@code conflicts}.
+     */
+    public DuplicatePersonException(List<String> conflicts) {
+        super(MESSAGE + ": " + String.join("; ", conflicts));
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    /**
+     * Returns a description of each pair of persons that caused this exception.
+     * The list is empty if the conflicting persons were not recorded.
+     */
+    public List<String> getConflicts() {
+        return conflicts;
     }
 }
@@ -3,15 +3,28 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Few distinct tags are shared by many persons, so tags are interned: {@link #of(String)} and
+ * {@link #intern(Tag)} return one canonical instance per tag name for as long as any person still holds it.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    // Keyed by the name of the canonical tag, so that an entry is dropped once the tag is no longer used
+    private static final Map<String, WeakReference<Tag>> INTERNED_TAGS = new WeakHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,11 +38,45 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        synchronized (INTERNED_TAGS) {
+            Tag canonicalTag = getInterned(tagName);
+            return (canonicalTag != null) ? canonicalTag : putInterned(new Tag(tagName));
+        }
+    }
+
+    /**
+     * Returns the canonical {@code Tag} equal to {@code tag}, which is {@code tag} itself if there was none yet.
+     */
+    public static Tag intern(Tag tag) {
+        requireNonNull(tag);
+        synchronized (INTERNED_TAGS) {
+            Tag canonicalTag = getInterned(tag.tagName);
+            return (canonicalTag != null) ? canonicalTag : putInterned(tag);
+        }
+    }
+
+    private static Tag getInterned(String tagName) {
+        WeakReference<Tag> reference = INTERNED_TAGS.get(tagName);
+        return (reference != null) ? reference.get() : null;
+    }
+
+    private static Tag putInterned(Tag tag) {
+        INTERNED_TAGS.put(tag.tagName, new WeakReference<>(tag));
+        return tag;
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
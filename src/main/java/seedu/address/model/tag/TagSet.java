@@ -0,0 +1,178 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, held as an array of interned tags sorted by tag name.
+ * Persons rarely have more than a few tags, so this takes far less memory than a {@code HashSet}, and the tags can
+ * be read by index without creating an iterator. Iteration is in the order of the tag names.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+
+    private final Tag[] tags;
+    private final int hashCode;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        int sum = 0;
+        for (Tag tag : tags) {
+            sum += tag.hashCode();
+        }
+        this.hashCode = sum;
+    }
+
+    /**
+     * Returns a {@code TagSet} holding the canonical instances of {@code tags}, without duplicates.
+     * Returns {@code tags} itself if it is a {@code TagSet} already.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = new Tag[tags.size()];
+        int size = 0;
+        for (Tag tag : tags) {
+            sortedTags[size++] = Tag.intern(tag);
+        }
+        Arrays.sort(sortedTags, TAG_NAME_ORDER);
+
+        // Tags are interned, so equal tags are the same instance, and are next to each other once sorted
+        int distinctSize = 1;
+        for (int i = 1; i < size; i++) {
+            if (sortedTags[i] != sortedTags[distinctSize - 1]) {
+                sortedTags[distinctSize++] = sortedTags[i];
+            }
+        }
+        return new TagSet((distinctSize == size) ? sortedTags : Arrays.copyOf(sortedTags, distinctSize));
+    }
+
+    /**
+     * Returns the tag at {@code index} in the order of the tag names.
+     */
+    public Tag get(int index) {
+        return tags[index];
+    }
+
+    /**
+     * Returns true if any tag in this set is named {@code tagName}, ignoring case.
+     */
+    public boolean containsIgnoreCase(String tagName) {
+        for (Tag tag : tags) {
+            if (tag.tagName.equalsIgnoreCase(tagName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Tag)) {
+            return false;
+        }
+        return Arrays.binarySearch(tags, (Tag) other, TAG_NAME_ORDER) >= 0;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int nextIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[nextIndex++];
+            }
+        };
+    }
+
+    @Override
+    public Object[] toArray() {
+        // Collection#toArray must return an Object[] that accepts any element, not the Tag[] held by this set
+        return Arrays.copyOf(tags, tags.length, Object[].class);
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // Both arrays are sorted the same way, so equal sets have equal arrays
+        if (other instanceof TagSet) {
+            TagSet otherTagSet = (TagSet) other;
+            return hashCode == otherTagSet.hashCode && Arrays.equals(tags, otherTagSet.tags);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+}
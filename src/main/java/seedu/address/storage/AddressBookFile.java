@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.ContentWriter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads and writes an address book data file together with the journal that {@link JournalAddressBookStorage} keeps
+ * next to it, so that every storage sees the same data whichever format last wrote the file. Switching between the
+ * formats converts the existing data the next time it is saved.
+ *
+ * The file may be in either the JSON or the binary format, and any journal is replayed on top of it when it is read.
+ * Writing replaces the file and empties the journal through a temporary file, in an order that lets
+ * {@link #read(Path)} finish or roll back a write that was cut short.
+ */
+class AddressBookFile {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFile.class);
+
+    private static final String JOURNAL_EXTENSION = ".journal";
+
+    /**
+     * The address book in a data file, and the number of journal entries replayed to get it.
+     */
+    record Contents(AddressBook addressBook, int journalEntryCount) {
+    }
+
+    /**
+     * Returns the address book in the file at {@code filePath} with its journal replayed on top of it, or
+     * {@code Optional#empty()} if there is no file. The formats are told apart by whether the file starts with
+     * {@link BinarySerializableAddressBook#MAGIC_NUMBER}.
+     *
+     * @throws IOException if the file could not be read, or is in neither format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Optional<Contents> read(Path filePath) throws IOException, IllegalValueException {
+        recoverInterruptedWrite(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        AddressBook snapshot = readSnapshot(filePath);
+        List<JsonAdaptedJournalEntry> entries = readJournal(getJournalPath(filePath));
+        if (entries.isEmpty()) {
+            return Optional.of(new Contents(snapshot, 0));
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.getPersonList());
+        JsonAdaptedDateTime lastUpdated = new JsonAdaptedDateTime(snapshot.getLastUpdated());
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lastUpdated = entry.applyTo(persons, lastUpdated);
+        }
+        return Optional.of(new Contents(JsonSerializableAddressBook.toAddressBook(persons, lastUpdated),
+                entries.size()));
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with the content produced by {@code contentWriter} and empties its
+     * journal. Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * An empty journal is created first to mark the write as in progress. The new content is written to a temporary
+     * file and forced to the disk, and the journal is only deleted once it is complete, so that a temporary file
+     * without a journal is always complete. The directory is forced to the disk between the steps, so that they
+     * reach the disk in the same order.
+     */
+    static void write(Path filePath, ContentWriter contentWriter) throws IOException {
+        Path journalPath = getJournalPath(filePath);
+        Path tempPath = FileUtil.getTempFilePath(filePath);
+
+        FileUtil.createIfMissing(journalPath);
+        Files.deleteIfExists(tempPath);
+        FileUtil.forceParentDir(journalPath);
+        FileUtil.writeToNewFileDurably(tempPath, contentWriter);
+        Files.delete(journalPath);
+        FileUtil.forceParentDir(journalPath);
+        FileUtil.moveAtomically(tempPath, filePath);
+    }
+
+    /**
+     * Returns the path of the journal kept next to the file at {@code filePath}.
+     */
+    static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is in the binary format.
+     */
+    static boolean isBinaryFormat(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return BinarySerializableAddressBook.isMagicNumber(
+                    in.readNBytes(BinarySerializableAddressBook.MAGIC_NUMBER.length));
+        }
+    }
+
+    private static AddressBook readSnapshot(Path filePath) throws IOException, IllegalValueException {
+        if (isBinaryFormat(filePath)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+                return BinarySerializableAddressBook.readAddressBook(in);
+            }
+        }
+
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return JsonSerializableAddressBook.readAddressBook(parser);
+        }
+    }
+
+    /**
+     * Finishes or rolls back a {@link #write(Path, ContentWriter)} to {@code filePath} that did not complete.
+     * A temporary file without a journal is complete and replaces the file. A temporary file with a journal may be
+     * incomplete, and is discarded in favour of the file and journal.
+     */
+    private static void recoverInterruptedWrite(Path filePath) throws IOException {
+        Path tempPath = FileUtil.getTempFilePath(filePath);
+        if (!Files.exists(tempPath)) {
+            return;
+        }
+
+        if (Files.exists(getJournalPath(filePath))) {
+            logger.info("Discarding incomplete file " + tempPath);
+            Files.delete(tempPath);
+        } else {
+            logger.info("Completing interrupted write of " + tempPath);
+            FileUtil.moveAtomically(tempPath, filePath);
+        }
+    }
+
+    /**
+     * Returns the entries in the journal at {@code journalPath}, or an empty list if there is no journal.
+     * A last line that is not terminated was cut short while being appended. It is removed from the journal, so
+     * that later entries are appended after the last complete one.
+     */
+    private static List<JsonAdaptedJournalEntry> readJournal(Path journalPath) throws IOException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!Files.exists(journalPath)) {
+            return entries;
+        }
+
+        byte[] bytes = Files.readAllBytes(journalPath);
+        int completeLength = bytes.length;
+        while (completeLength > 0 && bytes[completeLength - 1] != '\n') {
+            completeLength--;
+        }
+        if (completeLength < bytes.length) {
+            logger.warning("Removing incomplete last entry from journal " + journalPath);
+            FileUtil.truncateFile(journalPath, completeLength);
+        }
+
+        String[] lines = new String(bytes, 0, completeLength, StandardCharsets.UTF_8).split("\n", -1);
+        for (int i = 0; i < lines.length - 1; i++) {
+            entries.add(JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalEntry.class));
+        }
+        return entries;
+    }
+}
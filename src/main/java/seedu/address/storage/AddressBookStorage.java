@@ -42,4 +42,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Forces any saved data that is not on the disk yet to the disk.
+     * Storages that force every save to the disk have nothing to do.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flushAddressBook() throws IOException {
+    }
+
 }
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * Files in the JSON format can also be read, and are converted to the binary format when next saved.
+ *
+ * @see BinarySerializableAddressBook
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A file in the JSON format is also accepted, and any journal left by a {@link JournalAddressBookStorage} is
+     * replayed on top of the file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            Optional<AddressBookFile.Contents> contents = AddressBookFile.read(filePath);
+            if (contents.isPresent()) {
+                logger.info("Data file " + filePath + " found.");
+            }
+            return contents.map(AddressBookFile.Contents::addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            String details = (ive.getCause() != null) ? " " + ive.getCause().getMessage() : "";
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage() + details);
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced in a single step, so that it is never left half written. Any journal next to the file is
+     * emptied.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookFile.write(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out));
+            BinarySerializableAddressBook.writeAddressBook(addressBook, dataOut);
+            dataOut.flush();
+        });
+    }
+
+}
@@ -0,0 +1,233 @@
+package seedu.address.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Policy;
+import seedu.address.model.person.PolicyType;
+import seedu.address.model.person.RenewalDate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes an AddressBook in a compact binary format.
+ *
+ * The format starts with {@link #MAGIC_NUMBER} and a format version, followed by the last updated time to the
+ * minute as in the JSON format, a table of every distinct tag name, and the persons. Strings are written as their
+ * length in bytes followed by their UTF-8 encoding, renewal dates as epoch days, policy types as their ordinal and
+ * tags as indexes into the tag table. Persons are converted through {@link JsonAdaptedPerson}, so that a file in
+ * this format holds exactly what the equivalent JSON file would, and is checked against the same constraints when
+ * read.
+ */
+class BinarySerializableAddressBook {
+
+    /** The first bytes of every file in this format, which can never start a JSON file. */
+    public static final byte[] MAGIC_NUMBER = {(byte) 0x89, 'I', 'B', 'K'};
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "Not an address book in the binary format";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary format version %d";
+    public static final String MESSAGE_INVALID_TAG_INDEX = "Tag index %d is out of range";
+    public static final String MESSAGE_INVALID_POLICY_TYPE = "Policy type %d is out of range";
+    public static final String MESSAGE_INVALID_DATE_TIME = "Date or time is out of range";
+
+    // Strings are short fields of a person, so a longer length can only come from a corrupted file
+    private static final int MAX_STRING_LENGTH = 1 << 20;
+
+    private static final int NO_LAST_UPDATED = 0;
+    private static final int HAS_LAST_UPDATED = 1;
+
+    /**
+     * Reads an address book in the format of this class from {@code in}.
+     *
+     * @throws IOException if the content could not be read, or is not in the format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(DataInput in) throws IOException, IllegalValueException {
+        byte[] magicNumber = new byte[MAGIC_NUMBER.length];
+        in.readFully(magicNumber);
+        if (!isMagicNumber(magicNumber)) {
+            throw new IOException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        int version = in.readUnsignedShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        JsonAdaptedDateTime lastUpdated = null;
+        if (in.readUnsignedByte() == HAS_LAST_UPDATED) {
+            LocalDate date = readDate(in);
+            try {
+                LocalTime time = LocalTime.MIDNIGHT.with(ChronoField.MINUTE_OF_DAY, in.readUnsignedShort());
+                lastUpdated = new JsonAdaptedDateTime(LocalDateTime.of(date, time));
+            } catch (DateTimeException dte) {
+                throw new IllegalValueException(MESSAGE_INVALID_DATE_TIME, dte);
+            }
+        }
+
+        int tagCount = readCount(in);
+        List<JsonAdaptedTag> tagTable = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tagTable.add(new JsonAdaptedTag(readString(in)));
+        }
+
+        int personCount = readCount(in);
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            adaptedPersons.add(readPerson(in, tagTable));
+        }
+        return JsonSerializableAddressBook.toAddressBook(
+                JsonSerializableAddressBook.toModelPersons(adaptedPersons), lastUpdated);
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in the format of this class.
+     *
+     * @throws IOException if writing to {@code out} failed.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook source, DataOutput out) throws IOException {
+        out.write(MAGIC_NUMBER);
+        out.writeShort(FORMAT_VERSION);
+
+        LocalDateTime lastUpdated = source.getLastUpdated();
+        if (lastUpdated == null) {
+            out.writeByte(NO_LAST_UPDATED);
+        } else {
+            out.writeByte(HAS_LAST_UPDATED);
+            out.writeLong(lastUpdated.toLocalDate().toEpochDay());
+            out.writeShort(lastUpdated.get(ChronoField.MINUTE_OF_DAY));
+        }
+
+        Map<String, Integer> tagIndexes = new HashMap<>();
+        List<String> tagTable = new ArrayList<>();
+        for (Person person : source.getPersonList()) {
+            for (Tag tag : person.getTags()) {
+                if (tagIndexes.putIfAbsent(tag.tagName, tagTable.size()) == null) {
+                    tagTable.add(tag.tagName);
+                }
+            }
+        }
+        out.writeInt(tagTable.size());
+        for (String tagName : tagTable) {
+            writeString(out, tagName);
+        }
+
+        List<Person> persons = source.getPersonList();
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            writePerson(out, person, tagIndexes);
+        }
+    }
+
+    /**
+     * Returns true if {@code bytes} starts with {@link #MAGIC_NUMBER}.
+     */
+    public static boolean isMagicNumber(byte[] bytes) {
+        if (bytes.length < MAGIC_NUMBER.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC_NUMBER.length; i++) {
+            if (bytes[i] != MAGIC_NUMBER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writePerson(DataOutput out, Person person, Map<String, Integer> tagIndexes)
+            throws IOException {
+        Policy policy = person.getPolicy();
+        writeString(out, person.getName().toString());
+        writeString(out, person.getPhone().toString());
+        writeString(out, person.getEmail().toString());
+        writeString(out, person.getAddress().toString());
+        writeString(out, policy.policyNumber);
+        out.writeLong(policy.renewalDate.value.toEpochDay());
+        out.writeByte(policy.getType().ordinal());
+        writeString(out, person.getNote().toString());
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(tagIndexes.get(tag.tagName));
+        }
+    }
+
+    private static JsonAdaptedPerson readPerson(DataInput in, List<JsonAdaptedTag> tagTable)
+            throws IOException, IllegalValueException {
+        String name = readString(in);
+        String phone = readString(in);
+        String email = readString(in);
+        String address = readString(in);
+        String policy = readString(in);
+        String renewalDate = readDate(in).format(RenewalDate.DATE_FORMATTER);
+        String policyType = toPolicyType(in.readUnsignedByte()).toString();
+        String note = readString(in);
+
+        int tagCount = readCount(in);
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = in.readInt();
+            if (tagIndex < 0 || tagIndex >= tagTable.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_TAG_INDEX, tagIndex));
+            }
+            tags.add(tagTable.get(tagIndex));
+        }
+        return new JsonAdaptedPerson(name, phone, email, address, policy, renewalDate, policyType, note, tags);
+    }
+
+    private static PolicyType toPolicyType(int ordinal) throws IllegalValueException {
+        PolicyType[] policyTypes = PolicyType.values();
+        if (ordinal >= policyTypes.length) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_POLICY_TYPE, ordinal));
+        }
+        return policyTypes[ordinal];
+    }
+
+    private static LocalDate readDate(DataInput in) throws IOException, IllegalValueException {
+        try {
+            return LocalDate.ofEpochDay(in.readLong());
+        } catch (DateTimeException dte) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE_TIME, dte);
+        }
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = readCount(in);
+        if (length > MAX_STRING_LENGTH) {
+            throw new IOException("String length " + length + " is too long");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count of items or bytes, which must not be negative.
+     */
+    private static int readCount(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Negative count " + count);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,269 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus a journal of the changes made since the
+ * snapshot was written.
+ *
+ * The snapshot has the same format as the file of a {@link JsonAddressBookStorage}. Saving an address book
+ * appends one line to the journal for each change recorded in it since it was last saved, which sits next to the
+ * snapshot with the extension {@code .journal}, instead of rewriting every person. Once the journal holds
+ * more than {@code compactionThreshold} changes, it is folded into a fresh snapshot.
+ *
+ * Snapshots are always forced to the disk before they replace the previous one. Appends to the journal are only
+ * forced to the disk once every {@code syncInterval} saves, or {@link #MAX_SYNC_DELAY_MILLIS} after the first save
+ * that was not forced if that comes sooner, so that saves in quick succession share the cost.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    public static final int DEFAULT_SYNC_INTERVAL = 10;
+    public static final long MAX_SYNC_DELAY_MILLIS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private static final ScheduledExecutorService syncScheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "journal-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final int syncInterval;
+
+    // The latest change of the address book last read from or saved to filePath, or null if it is not known
+    private AddressBookChange savedChange;
+    private LocalDateTime savedLastUpdated;
+    private int journalEntryCount;
+    private int unsyncedSaveCount;
+    private ScheduledFuture<?> scheduledSync;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, DEFAULT_SYNC_INTERVAL);
+    }
+
+    /**
+     * Constructs a {@code JournalAddressBookStorage} that folds the journal into a new snapshot once it holds more
+     * than {@code compactionThreshold} changes, and forces appends to the journal to the disk once every
+     * {@code syncInterval} saves.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold, int syncInterval) {
+        assert compactionThreshold >= 0;
+        assert syncInterval >= 1;
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.syncInterval = syncInterval;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The snapshot is read first, then the changes in the journal are replayed on top of it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            Optional<AddressBookFile.Contents> contents = AddressBookFile.read(filePath);
+            if (contents.isEmpty()) {
+                return Optional.empty();
+            }
+            logger.info("JSON file " + filePath + " found.");
+
+            AddressBook addressBook = contents.get().addressBook();
+            // Once this storage has saved to the file, it keeps tracking the changes of the address book it saved
+            if (filePath.equals(this.filePath) && savedChange == null) {
+                remember(addressBook, contents.get().journalEntryCount());
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            String details = (ive.getCause() != null) ? " " + ive.getCause().getMessage() : "";
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage() + details);
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes since the address book was last read or saved are written, unless the journal has grown
+     * too long or the changes cannot be recorded in it, in which case a new snapshot is written instead.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            compact(addressBook, filePath);
+            return;
+        }
+
+        Optional<List<JsonAdaptedJournalEntry>> entries = getEntriesSinceSaved(addressBook);
+        if (entries.isEmpty() || journalEntryCount + entries.get().size() > compactionThreshold) {
+            compact(addressBook, filePath);
+            remember(addressBook, 0);
+            markSynced();
+            return;
+        }
+
+        if (!entries.get().isEmpty()) {
+            unsyncedSaveCount++;
+            boolean isForced = unsyncedSaveCount >= syncInterval;
+            try {
+                appendToJournal(AddressBookFile.getJournalPath(filePath), entries.get(), isForced);
+            } catch (IOException ioe) {
+                // Part of the entries may have been written, so write a new snapshot next time
+                savedChange = null;
+                throw ioe;
+            }
+            if (isForced) {
+                markSynced();
+            } else if (scheduledSync == null) {
+                scheduledSync = syncScheduler.schedule(this::syncQuietly, MAX_SYNC_DELAY_MILLIS,
+                        TimeUnit.MILLISECONDS);
+            }
+            remember(addressBook, journalEntryCount + entries.get().size());
+        }
+    }
+
+    /**
+     * Forces the entries appended to the journal since it was last forced to the disk.
+     */
+    @Override
+    public synchronized void flushAddressBook() throws IOException {
+        if (unsyncedSaveCount == 0) {
+            return;
+        }
+        FileUtil.forceToDisk(AddressBookFile.getJournalPath(filePath));
+        markSynced();
+    }
+
+    private synchronized void syncQuietly() {
+        scheduledSync = null;
+        try {
+            flushAddressBook();
+        } catch (IOException ioe) {
+            logger.warning("Failed to force journal of " + filePath + " to the disk: " + ioe);
+        }
+    }
+
+    private void markSynced() {
+        unsyncedSaveCount = 0;
+        if (scheduledSync != null) {
+            scheduledSync.cancel(false);
+            scheduledSync = null;
+        }
+    }
+
+    private void remember(ReadOnlyAddressBook addressBook, int journalEntryCount) {
+        savedChange = addressBook.getLatestChange().orElse(null);
+        savedLastUpdated = addressBook.getLastUpdated();
+        this.journalEntryCount = journalEntryCount;
+    }
+
+    /**
+     * Returns the journal entries for the changes made to {@code addressBook} since it was last read or saved, or
+     * {@code Optional#empty()} if those changes are not known or replace every person, which calls for a new
+     * snapshot instead.
+     */
+    private Optional<List<JsonAdaptedJournalEntry>> getEntriesSinceSaved(ReadOnlyAddressBook addressBook) {
+        Optional<AddressBookChange> latestChange = addressBook.getLatestChange();
+        if (savedChange == null || latestChange.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (AddressBookChange change : latestChange.get().getChangesSince(savedChange)) {
+            switch (change.getKind()) {
+            case ADD:
+                entries.add(JsonAdaptedJournalEntry.add(change.getIndex(), change.getPerson()));
+                break;
+            case SET:
+                entries.add(JsonAdaptedJournalEntry.set(change.getIndex(), change.getPerson()));
+                break;
+            case REMOVE:
+                entries.add(JsonAdaptedJournalEntry.remove(change.getIndex()));
+                break;
+            default:
+                return Optional.empty();
+            }
+        }
+        if (!Objects.equals(savedLastUpdated, addressBook.getLastUpdated())) {
+            entries.add(JsonAdaptedJournalEntry.lastUpdated(addressBook.getLastUpdated()));
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * Replaces the snapshot at {@code filePath} with {@code addressBook} and empties its journal.
+     *
+     * @see AddressBookFile#write(Path, FileUtil.ContentWriter)
+     */
+    private static void compact(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        AddressBookFile.write(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+                JsonSerializableAddressBook.writeAddressBook(addressBook, generator);
+            }
+        });
+    }
+
+    private static void appendToJournal(Path journalPath, List<JsonAdaptedJournalEntry> entries, boolean isForced)
+            throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        FileUtil.appendToFile(journalPath, lines.toString(), isForced);
+    }
+
+}
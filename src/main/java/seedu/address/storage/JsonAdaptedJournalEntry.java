@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change recorded in the journal of a {@link JournalAddressBookStorage}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry's index %d is out of range!";
+
+    /**
+     * The kinds of change that can be recorded.
+     */
+    enum Operation {
+        /** Inserts {@code person} at {@code index}. */
+        ADD,
+        /** Replaces the person at {@code index} with {@code person}. */
+        SET,
+        /** Removes the person at {@code index}. */
+        REMOVE,
+        /** Sets the last updated time of the address book to {@code lastUpdated}. */
+        LAST_UPDATED
+    }
+
+    private final Operation operation;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedDateTime lastUpdated;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") Operation operation,
+            @JsonProperty("index") Integer index, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("lastUpdated") JsonAdaptedDateTime lastUpdated) {
+        this.operation = operation;
+        this.index = index;
+        this.person = person;
+        this.lastUpdated = lastUpdated;
+    }
+
+    /**
+     * Returns an entry recording that {@code person} was inserted at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry add(int index, Person person) {
+        return new JsonAdaptedJournalEntry(Operation.ADD, index, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns an entry recording that the person at {@code index} was replaced with {@code person}.
+     */
+    public static JsonAdaptedJournalEntry set(int index, Person person) {
+        return new JsonAdaptedJournalEntry(Operation.SET, index, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns an entry recording that the person at {@code index} was removed.
+     */
+    public static JsonAdaptedJournalEntry remove(int index) {
+        return new JsonAdaptedJournalEntry(Operation.REMOVE, index, null, null);
+    }
+
+    /**
+     * Returns an entry recording that the address book was last updated at {@code lastUpdated}.
+     */
+    public static JsonAdaptedJournalEntry lastUpdated(LocalDateTime lastUpdated) {
+        return new JsonAdaptedJournalEntry(Operation.LAST_UPDATED, null, null, new JsonAdaptedDateTime(lastUpdated));
+    }
+
+    /**
+     * Applies the change recorded by this entry to {@code persons}, returning the last updated time of the address
+     * book if this entry changes it, or {@code currentLastUpdated} otherwise.
+     *
+     * @throws IllegalValueException if this entry is incomplete, or does not fit {@code persons}.
+     */
+    public JsonAdaptedDateTime applyTo(List<Person> persons, JsonAdaptedDateTime currentLastUpdated)
+            throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+
+        switch (operation) {
+        case ADD:
+            persons.add(checkIndex(persons.size() + 1), toModelPerson());
+            return currentLastUpdated;
+        case SET:
+            persons.set(checkIndex(persons.size()), toModelPerson());
+            return currentLastUpdated;
+        case REMOVE:
+            persons.remove(checkIndex(persons.size()));
+            return currentLastUpdated;
+        case LAST_UPDATED:
+            if (lastUpdated == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "lastUpdated"));
+            }
+            return lastUpdated;
+        default:
+            throw new AssertionError("Unknown journal operation: " + operation);
+        }
+    }
+
+    private int checkIndex(int bound) throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        if (index < 0 || index >= bound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, index));
+        }
+        return index;
+    }
+
+    private Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+}
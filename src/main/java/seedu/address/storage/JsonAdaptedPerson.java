@@ -136,7 +136,7 @@ class JsonAdaptedPerson {
             return new Person(modelName, modelPhone, modelEmail, modelAddress, modelPolicy, modelNote, modelTags);
         }
 
-        if (!RenewalDate.isValidRenewalDate(renewalDate)) {
+        if (!RenewalDate.isValidDate(renewalDate)) {
             throw new IllegalValueException(RenewalDate.DATE_CONSTRAINTS);
         }
 
@@ -7,10 +7,11 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -38,6 +39,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is streamed, with each person converted into the model as it is read.
+     * A file in the binary format of {@link BinaryAddressBookStorage} is also accepted, and any journal left by a
+     * {@link JournalAddressBookStorage} is replayed on top of the file.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,16 +49,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            Optional<AddressBookFile.Contents> contents = AddressBookFile.read(filePath);
+            if (contents.isPresent()) {
+                logger.info("JSON file " + filePath + " found.");
+            }
+            return contents.map(AddressBookFile.Contents::addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            String details = (ive.getCause() != null) ? " " + ive.getCause().getMessage() : "";
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage() + details);
             throw new DataLoadingException(ive);
         }
     }
@@ -66,6 +72,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Persons are streamed into a temporary file one at a time, which then replaces the file in a single step, so
+     * that the file is never left half written. Any journal next to the file is emptied.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +81,11 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        AddressBookFile.write(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+                JsonSerializableAddressBook.writeAddressBook(addressBook, generator);
+            }
+        });
     }
 
 }
@@ -1,16 +1,25 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,6 +29,11 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** Persons converted by a single fork-join task. Smaller lists are converted on the calling thread. */
+    static final int CONVERSION_CHUNK_SIZE = 256;
+    /** Persons read ahead before they are converted, bounding the extra memory used while loading. */
+    static final int CONVERSION_BATCH_SIZE = 16 * CONVERSION_CHUNK_SIZE;
+
     private static final String DATE_TIME_PATTERN = "M/d/yyyy HHmm";
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
 
@@ -48,13 +62,115 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toAddressBook(toModelPersons(persons), lastUpdated);
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code parser}, converting the persons into the
+     * model's {@code Person} in batches of {@link #CONVERSION_BATCH_SIZE} as they are read. Unlike binding the whole
+     * file to this class first, this keeps only one copy of most of the data in memory while loading.
+     *
+     * @throws IOException if the content is not valid JSON or does not have the structure of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        List<Person> modelPersons = new ArrayList<>();
+        JsonAdaptedDateTime lastUpdated = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if ("persons".equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                readPersons(parser, modelPersons);
+            } else if ("lastUpdated".equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                lastUpdated = parser.readValueAs(JsonAdaptedDateTime.class);
+            } else {
+                // Unknown fields are ignored, as when binding to this class
+                parser.skipChildren();
             }
-            addressBook.addPerson(person);
+        }
+        return toAddressBook(modelPersons, lastUpdated);
+    }
+
+    /**
+     * Reads the persons in the array {@code parser} is at into {@code modelPersons}.
+     * Problems are reported in the order of the persons they are found in, as if each person was converted as soon
+     * as it is read.
+     */
+    private static void readPersons(JsonParser parser, List<Person> modelPersons)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        try {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == CONVERSION_BATCH_SIZE) {
+                    modelPersons.addAll(toModelPersons(batch));
+                    batch.clear();
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "Expected a person object");
+            }
+        } catch (IOException ioe) {
+            // An invalid person before the malformed content takes precedence
+            toModelPersons(batch);
+            throw ioe;
+        }
+        modelPersons.addAll(toModelPersons(batch));
+    }
+
+    /**
+     * Converts {@code adaptedPersons} into the model's {@code Person} objects, in the same order. Long lists are
+     * split into chunks of {@link #CONVERSION_CHUNK_SIZE} which are converted in parallel.
+     *
+     * @throws IllegalValueException the exception of the first person in {@code adaptedPersons} which violates
+     *     the data constraints, if there is any.
+     */
+    static List<Person> toModelPersons(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        Person[] modelPersons = new Person[adaptedPersons.size()];
+        IllegalValueException[] failures = new IllegalValueException[adaptedPersons.size()];
+        ConversionTask task = new ConversionTask(adaptedPersons, modelPersons, failures, 0, adaptedPersons.size());
+        int firstFailure = (adaptedPersons.size() <= CONVERSION_CHUNK_SIZE)
+                ? task.compute()
+                : ForkJoinPool.commonPool().invoke(task);
+        if (firstFailure != ConversionTask.NO_FAILURE) {
+            throw failures[firstFailure];
+        }
+        return Arrays.asList(modelPersons);
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the format of this class, converting one person at a time
+     * instead of building the whole serializable address book first.
+     *
+     * @throws IOException if writing to the generator failed.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeObjectField("lastUpdated", new JsonAdaptedDateTime(source.getLastUpdated()));
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding {@code modelPersons}, last updated at {@code lastUpdated} if given.
+     *
+     * @throws IllegalValueException if {@code modelPersons} contains duplicate persons.
+     */
+    static AddressBook toAddressBook(List<Person> modelPersons, JsonAdaptedDateTime lastUpdated)
+            throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON, dpe);
         }
         if (lastUpdated != null) { // in case of empty field
             addressBook.setLastUpdated(lastUpdated.toModelType());
@@ -62,4 +178,55 @@ class JsonSerializableAddressBook {
         return addressBook;
     }
 
+    /**
+     * Converts a range of persons, returning the index of the first one that could not be converted.
+     * Each chunk stops at its first failure, so later chunks may have been converted needlessly, but the failure
+     * reported is always the one a conversion in order would have found.
+     */
+    private static class ConversionTask extends RecursiveTask<Integer> {
+        static final int NO_FAILURE = -1;
+        private static final long serialVersionUID = 1L;
+
+        private final List<JsonAdaptedPerson> adaptedPersons;
+        private final Person[] modelPersons;
+        private final IllegalValueException[] failures;
+        private final int from;
+        private final int to;
+
+        ConversionTask(List<JsonAdaptedPerson> adaptedPersons, Person[] modelPersons,
+                IllegalValueException[] failures, int from, int to) {
+            this.adaptedPersons = adaptedPersons;
+            this.modelPersons = modelPersons;
+            this.failures = failures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= CONVERSION_CHUNK_SIZE) {
+                return convertChunk();
+            }
+
+            int middle = (from + to) >>> 1;
+            ConversionTask right = new ConversionTask(adaptedPersons, modelPersons, failures, middle, to);
+            right.fork();
+            int leftFailure = new ConversionTask(adaptedPersons, modelPersons, failures, from, middle).compute();
+            int rightFailure = right.join();
+            return (leftFailure != NO_FAILURE) ? leftFailure : rightFailure;
+        }
+
+        private int convertChunk() {
+            for (int i = from; i < to; i++) {
+                try {
+                    modelPersons[i] = adaptedPersons.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    failures[i] = ive;
+                    return i;
+                }
+            }
+            return NO_FAILURE;
+        }
+    }
+
 }
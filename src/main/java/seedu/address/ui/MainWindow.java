@@ -234,11 +234,37 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Updates the filter label to show the given renewals filter.
+     */
+    private void updateFilterLabel(CommandResult.RenewalsFilter renewalsFilter) {
+        if (renewalsFilter.isActive()) {
+            updateFilterLabel(renewalsFilter.getStartDate(), renewalsFilter.getEndDate());
+        } else {
+            updateFilterLabelEmpty();
+        }
+    }
+
     private void updateFilterLabelEmpty() {
         filterLabel.setText("No active filter");
         filterLabel.setStyle("-fx-text-fill: white; -fx-alignment: center;");
     }
 
+    /**
+     * Selects the first person in the list and shows their details, or clears the selection if
+     * {@code hasPersons} is false.
+     */
+    private void selectFirstPerson(boolean hasPersons) {
+        personListPanel.getListView().getSelectionModel().clearSelection();
+        if (hasPersons) {
+            personListPanel.getListView().getSelectionModel().selectFirst();
+            Person firstPerson = personListPanel.getListView().getSelectionModel().getSelectedItem();
+            personDetailPanel.setPerson(firstPerson);
+        } else {
+            personDetailPanel.clear();
+        }
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
@@ -262,55 +288,18 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
-            if (commandText.startsWith("find")) {
-                if (!logic.getFilteredPersonList().isEmpty()) {
-                    personListPanel.getListView().getSelectionModel().clearSelection();
-                    personListPanel.getListView().getSelectionModel().selectFirst();
-                    Person firstPerson = personListPanel.getListView().getSelectionModel().getSelectedItem();
-                    personDetailPanel.setPerson(firstPerson);
-                } else {
-                    personListPanel.getListView().getSelectionModel().clearSelection();
-                    personDetailPanel.clear();
-                }
+            if (commandResult.getSelection() == CommandResult.Selection.FIRST_PERSON) {
+                selectFirstPerson(commandResult.getResultCount().orElse(0) > 0);
             }
 
-            if (commandText.startsWith("filter")) {
-                String feedback = commandResult.getFeedbackToUser();
-
-                // Check if it contains a valid date range
-                if (feedback.contains("between") && feedback.contains(".")) {
-                    String[] parts = feedback.split("between|\\.");
-                    if (parts.length >= 2) {
-                        String[] dates = parts[1].trim().split(" and ");
-                        if (dates.length == 2) {
-                            LocalDate startDate = LocalDate.parse(dates[0].trim(), RenewalDate.DATE_FORMATTER);
-                            LocalDate endDate = LocalDate.parse(dates[1].trim(), RenewalDate.DATE_FORMATTER);
-                            updateFilterLabel(startDate, endDate);
-                        }
-                    }
-                }
-            } else if (commandText.startsWith("viewrenewals")) {
-                String feedback = commandResult.getFeedbackToUser();
-                if (feedback.contains("between")) {
-                    String[] parts = feedback.split("between|\\.");
-                    if (parts.length >= 2) {
-                        String[] dates = parts[1].trim().split(" and ");
-                        if (dates.length == 2) {
-                            LocalDate startDate = LocalDate.parse(dates[0].trim(), RenewalDate.DATE_FORMATTER);
-                            LocalDate endDate = LocalDate.parse(dates[1].trim(), RenewalDate.DATE_FORMATTER);
-                            updateFilterLabel(startDate, endDate);
-                        }
-                    }
-                } else {
-                    updateFilterLabelEmpty();
-                }
-            }
+            commandResult.getRenewalsFilter().ifPresent(this::updateFilterLabel);
 
-            // Update renewals table after each command
-            renewalsTable.updateRenewals(logic.getModel());
-            renewalsTable.getRenewalsTable().refresh();
-            if (logic.getFilteredPersonList().isEmpty()) {
-                renewalsTable.clear();
+            // The renewals table follows the model's renewals list, so it only needs to know about the date and
+            // whether it should be cleared
+            boolean isPersonListEmpty = logic.getFilteredPersonList().isEmpty();
+            renewalsTable.setCleared(isPersonListEmpty);
+            renewalsTable.updateToday();
+            if (isPersonListEmpty) {
                 personDetailPanel.clear();
             }
 
@@ -1,27 +1,32 @@
 package seedu.address.ui;
 
 import java.time.LocalDate;
+import java.util.function.BiFunction;
 
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
-import javafx.scene.control.cell.PropertyValueFactory;
-import seedu.address.model.RenewalProcessor.RenewalEntry;
 import seedu.address.model.RenewalTableData;
 import seedu.address.model.person.RenewalDate;
 
 /**
  * JavaFX-specific configuration for the renewals table.
+ * Each row of the table is the slot of a row in a {@code RenewalTableData}, whose columns are read only for the
+ * cells being shown.
  */
 public class RenewalTableConfig {
     /**
-     * Configures a column with the given property name.
+     * Configures a column to show the values {@code cellValue} reads from the current table data.
      *
      * @param column The column to configure
-     * @param propertyName The name of the property to bind to
-     * @param <T> The type of the property
+     * @param tableData The table data shown
+     * @param cellValue Reads the value of the column in a slot of the table data
+     * @param <T> The type of the column values
      */
-    private static <T> void configureColumn(TableColumn<RenewalEntry, T> column, String propertyName) {
-        column.setCellValueFactory(new PropertyValueFactory<>(propertyName));
+    private static <T> void configureColumn(TableColumn<Integer, T> column, RenewalTableData tableData,
+            BiFunction<RenewalTableData, Integer, T> cellValue) {
+        column.setCellValueFactory(features ->
+                new ReadOnlyObjectWrapper<>(cellValue.apply(tableData, features.getValue())));
         column.setMinWidth(100);
         column.setPrefWidth(150);
         column.setResizable(true);
@@ -31,10 +36,11 @@ public class RenewalTableConfig {
      * Configures the date column with proper formatting.
      *
      * @param dateColumn The date column to configure
+     * @param tableData The table data shown
      */
-    private static void configureDateColumn(TableColumn<RenewalEntry, LocalDate> dateColumn) {
-        configureColumn(dateColumn, RenewalTableData.RENEWAL_DATE_COLUMN);
-        dateColumn.setCellFactory(column -> new TableCell<RenewalEntry, LocalDate>() {
+    private static void configureDateColumn(TableColumn<Integer, LocalDate> dateColumn, RenewalTableData tableData) {
+        configureColumn(dateColumn, tableData, RenewalTableData::getRenewalDate);
+        dateColumn.setCellFactory(column -> new TableCell<Integer, LocalDate>() {
             @Override
             protected void updateItem(LocalDate date, boolean empty) {
                 super.updateItem(date, empty);
@@ -50,6 +56,7 @@ public class RenewalTableConfig {
     /**
      * Configures all columns for the renewals table.
      *
+     * @param tableData The table data shown
      * @param clientColumn Column for client names
      * @param policyColumn Column for policy numbers
      * @param typeColumn Column for policy types
@@ -58,17 +65,18 @@ public class RenewalTableConfig {
      * @param contactColumn Column for contact information
      */
     public static void configureAllColumns(
-            TableColumn<RenewalEntry, String> clientColumn,
-            TableColumn<RenewalEntry, String> policyColumn,
-            TableColumn<RenewalEntry, String> typeColumn,
-            TableColumn<RenewalEntry, LocalDate> renewalDateColumn,
-            TableColumn<RenewalEntry, Long> daysLeftColumn,
-            TableColumn<RenewalEntry, String> contactColumn) {
-        configureColumn(clientColumn, RenewalTableData.CLIENT_COLUMN);
-        configureColumn(policyColumn, RenewalTableData.POLICY_COLUMN);
-        configureColumn(typeColumn, RenewalTableData.TYPE_COLUMN);
-        configureDateColumn(renewalDateColumn);
-        configureColumn(daysLeftColumn, RenewalTableData.DAYS_LEFT_COLUMN);
-        configureColumn(contactColumn, RenewalTableData.CONTACT_COLUMN);
+            RenewalTableData tableData,
+            TableColumn<Integer, String> clientColumn,
+            TableColumn<Integer, String> policyColumn,
+            TableColumn<Integer, String> typeColumn,
+            TableColumn<Integer, LocalDate> renewalDateColumn,
+            TableColumn<Integer, Long> daysLeftColumn,
+            TableColumn<Integer, String> contactColumn) {
+        configureColumn(clientColumn, tableData, RenewalTableData::getClient);
+        configureColumn(policyColumn, tableData, RenewalTableData::getPolicy);
+        configureColumn(typeColumn, tableData, (data, row) -> data.getType(row).toString());
+        configureDateColumn(renewalDateColumn, tableData);
+        configureColumn(daysLeftColumn, tableData, RenewalTableData::getDaysLeft);
+        configureColumn(contactColumn, tableData, RenewalTableData::getContact);
     }
 }
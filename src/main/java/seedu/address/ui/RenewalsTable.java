@@ -3,42 +3,53 @@ package seedu.address.ui;
 import java.time.LocalDate;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.layout.VBox;
 import seedu.address.model.Model;
 import seedu.address.model.RenewalProcessor;
-import seedu.address.model.RenewalProcessor.RenewalEntry;
 import seedu.address.model.RenewalTableData;
+import seedu.address.model.person.Person;
 
 /**
  * Panel containing the list of upcoming policy renewals.
+ * The table follows the model's renewals list, applying each change of the list to its {@code RenewalTableData}.
+ * Its rows are the slots of the rows in that table data.
  */
 public class RenewalsTable extends UiPart<VBox> {
 
     private static final String FXML = "RenewalsTable.fxml";
 
     @FXML
-    private TableView<RenewalEntry> renewalsTable;
+    private TableView<Integer> renewalsTable;
 
     @FXML
-    private TableColumn<RenewalEntry, String> clientColumn;
+    private TableColumn<Integer, String> clientColumn;
 
     @FXML
-    private TableColumn<RenewalEntry, String> policyColumn;
+    private TableColumn<Integer, String> policyColumn;
 
     @FXML
-    private TableColumn<RenewalEntry, String> typeColumn;
+    private TableColumn<Integer, String> typeColumn;
 
     @FXML
-    private TableColumn<RenewalEntry, LocalDate> renewalDateColumn;
+    private TableColumn<Integer, LocalDate> renewalDateColumn;
 
     @FXML
-    private TableColumn<RenewalEntry, Long> daysLeftColumn;
+    private TableColumn<Integer, Long> daysLeftColumn;
 
     @FXML
-    private TableColumn<RenewalEntry, String> contactColumn;
+    private TableColumn<Integer, String> contactColumn;
+
+    private final Model model;
+    // Held so that the view, which only listens weakly to the model's list, stays alive as long as this table
+    private final ObservableList<Person> renewals;
+    private final RenewalTableData tableData;
+    private final SortedList<Integer> rows;
 
     /**
      * Creates a new RenewalsTable with the given Model.
@@ -47,23 +58,24 @@ public class RenewalsTable extends UiPart<VBox> {
      */
     public RenewalsTable(Model model) {
         super(FXML);
+        this.model = model;
+        this.renewals = model.getRenewalsList();
+        this.tableData = RenewalProcessor.processRenewals(renewals, model.getToday());
+        renewals.addListener((ListChangeListener<Person>) tableData::applyChange);
+
+        rows = new SortedList<>(tableData.getRows());
+        rows.comparatorProperty().bind(renewalsTable.comparatorProperty());
         setupColumns();
         configureTable();
-        updateRenewals(model);
+        renewalsTable.setItems(rows);
     }
 
     /**
      * Sets up the table columns with their respective cell value factories.
      */
     private void setupColumns() {
-        RenewalTableConfig.configureAllColumns(
-            clientColumn,
-            policyColumn,
-            typeColumn,
-            renewalDateColumn,
-            daysLeftColumn,
-            contactColumn
-        );
+        RenewalTableConfig.configureAllColumns(tableData, clientColumn, policyColumn, typeColumn, renewalDateColumn,
+                daysLeftColumn, contactColumn);
     }
 
     /**
@@ -76,20 +88,25 @@ public class RenewalsTable extends UiPart<VBox> {
     }
 
     /**
-     * Updates the table with renewal entries from the model.
-     *
-     * @param model The model containing the updated person data
+     * Counts the days left from the model's date if it has moved on, and redraws the visible cells to show them.
      */
-    public void updateRenewals(Model model) {
-        RenewalTableData tableData = RenewalProcessor.processRenewals(model.getRenewalsList());
-        renewalsTable.setItems(FXCollections.observableArrayList(tableData.getEntries()));
+    public void updateToday() {
+        LocalDate today = model.getToday();
+        if (!today.equals(tableData.getToday())) {
+            tableData.setToday(today);
+            renewalsTable.refresh();
+        }
     }
 
     /**
-     * Clears the renewals table by setting its items to an empty list.
+     * Sets whether the table is cleared. A cleared table shows no rows, and shows the renewals list again once it
+     * is no longer cleared. Nothing is redrawn if the table already is in the given state.
      */
-    public void clear() {
-        renewalsTable.getItems().clear();
+    public void setCleared(boolean isCleared) {
+        ObservableList<Integer> items = isCleared ? FXCollections.emptyObservableList() : rows;
+        if (renewalsTable.getItems() != items) {
+            renewalsTable.setItems(items);
+        }
     }
 
     /**
@@ -113,7 +130,7 @@ public class RenewalsTable extends UiPart<VBox> {
      *
      * @return The TableView containing the renewal entries
      */
-    protected TableView<RenewalEntry> getRenewalsTable() {
+    protected TableView<Integer> getRenewalsTable() {
         return renewalsTable;
     }
 }
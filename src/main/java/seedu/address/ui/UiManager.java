@@ -54,6 +54,12 @@ public class UiManager implements Ui {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
 
+    @Override
+    public void showErrorDialogAndWait(String title, String headerText, String contentText) {
+        // The main window may not have been created, or may already be closed
+        showAlertDialogAndWait(null, AlertType.ERROR, title, headerText, contentText);
+    }
+
     void showAlertDialogAndWait(Alert.AlertType type, String title, String headerText, String contentText) {
         showAlertDialogAndWait(mainWindow.getPrimaryStage(), type, title, headerText, contentText);
     }
@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,49 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_contentReplaced() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, "old content");
+        FileUtil.writeToFileAtomically(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, "old content");
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write(1);
+            throw new IOException("dummy IO exception");
+        }));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_staleTempFile_contentReplaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(FileUtil.getTempFilePath(file), "incomplete");
+        FileUtil.writeToFileAtomically(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToNewFileDurably_existingFile_fileKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        assertThrows(FileAlreadyExistsException.class, () -> FileUtil.writeToNewFileDurably(file, out -> out.write(1)));
+        assertEquals("old content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void appendToFile_existingFile_contentAppended() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.appendToFile(file, "first\n", false);
+        FileUtil.appendToFile(file, "second\n", true);
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -209,6 +210,36 @@ public class StringUtilTest {
 
         // No matches
         assertFalse(StringUtil.containsPartialWordIgnoreCase("aaa bbb ccc", "xyz")); // No match anywhere
+        assertFalse(StringUtil.containsPartialWordIgnoreCase("aaa   bBb", "AAA B")); // Whitespace is not collapsed
+    }
+
+    //---------------- Tests for prepSearchTerm --------------------------------------
+
+    @Test
+    public void prepSearchTerm_emptySearchTerm_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Search term parameter cannot be empty", ()
+                -> StringUtil.prepSearchTerm("  "));
+    }
+
+    @Test
+    public void prepSearchTerm_validSearchTerm_trimmedAndLowerCased() {
+        assertEquals("bbb cc", StringUtil.prepSearchTerm("  bBB Cc "));
+        assertEquals("bbb cc", StringUtil.prepSearchTerm("bBB \t  Cc"));
+    }
+
+    //---------------- Tests for normalizeForSearch --------------------------------------
+
+    @Test
+    public void normalizeForSearch_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.normalizeForSearch(null));
+    }
+
+    @Test
+    public void normalizeForSearch_validText_collapsesWhitespaceAndLowerCases() {
+        assertEquals("", StringUtil.normalizeForSearch("   "));
+        assertEquals("aaa bbb ccc", StringUtil.normalizeForSearch("  AAA   bBb \n ccc  "));
+        assertEquals("aaa", StringUtil.normalizeForSearch("aaa"));
+        assertEquals("\u00e9cole ng", StringUtil.normalizeForSearch("\u00c9COLE\tNG\r\n"));
     }
 
     //---------------- Tests for getDetails --------------------------------------
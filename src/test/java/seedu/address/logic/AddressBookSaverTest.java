@@ -0,0 +1,118 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class AddressBookSaverTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<AddressBook> savedAddressBooks = new ArrayList<>();
+    private final Queue<Runnable> scheduledSaves = new ArrayDeque<>();
+    private IOException saveException;
+
+    @Test
+    public void requestSave_burstBeforeSaveRuns_onlyLatestSnapshotSaved() {
+        AddressBookSaver saver = new AddressBookSaver(createStorage(), scheduledSaves::add);
+        AddressBook addressBook = new AddressBook();
+
+        saver.requestSave(addressBook);
+        addressBook.addPerson(ALICE);
+        saver.requestSave(addressBook);
+        assertEquals(1, scheduledSaves.size());
+
+        // Changes made after the last request are not saved
+        addressBook.addPerson(BENSON);
+        runScheduledSaves();
+        assertEquals(List.of(addressBookOf(ALICE)), savedAddressBooks);
+    }
+
+    @Test
+    public void requestSave_afterEarlierSaveRan_savedAgain() {
+        AddressBookSaver saver = new AddressBookSaver(createStorage(), scheduledSaves::add);
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook first = new AddressBook(addressBook);
+
+        saver.requestSave(addressBook);
+        runScheduledSaves();
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, ALICE);
+        saver.requestSave(addressBook);
+        runScheduledSaves();
+        assertEquals(List.of(first, addressBook), savedAddressBooks);
+    }
+
+    @Test
+    public void takeFailure_saveFailed_returnsFailureOnce() {
+        saveException = new IOException("dummy IO exception");
+        AddressBookSaver saver = new AddressBookSaver(createStorage(), Runnable::run);
+
+        assertEquals(Optional.empty(), saver.takeFailure());
+        saver.requestSave(new AddressBook());
+        assertSame(saveException, saver.takeFailure().get());
+        assertTrue(saver.takeFailure().isEmpty());
+    }
+
+    @Test
+    public void awaitPendingSaves_backgroundExecutor_waitsForSave() {
+        AddressBookSaver saver = new AddressBookSaver(createStorage(), AddressBookSaver.newBackgroundExecutor());
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook);
+        saver.awaitPendingSaves();
+        synchronized (savedAddressBooks) {
+            assertEquals(List.of(addressBook), savedAddressBooks);
+        }
+    }
+
+    private static AddressBook addressBookOf(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(persons));
+        return addressBook;
+    }
+
+    private void runScheduledSaves() {
+        while (!scheduledSaves.isEmpty()) {
+            scheduledSaves.remove().run();
+        }
+    }
+
+    private StorageManager createStorage() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveException != null) {
+                    throw saveException;
+                }
+                synchronized (savedAddressBooks) {
+                    // The saver reuses its copy of the persons, so keep a copy of what was saved
+                    savedAddressBooks.add(new AddressBook(addressBook));
+                }
+            }
+        };
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json")));
+    }
+}
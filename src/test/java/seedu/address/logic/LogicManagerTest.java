@@ -52,7 +52,7 @@ public class LogicManagerTest {
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Runnable::run);
     }
 
     @Test
@@ -85,6 +85,59 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_unchangedAddressBook_notSavedAgain() throws Exception {
+        Path filePath = temporaryFolder.resolve("countingAddressBook.json");
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), Runnable::run);
+
+        // The address book is already in storage when the app starts
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, saveCount[0]);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + POLICY_DESC_AMY + NOTE_DESC_AMY);
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void awaitPendingSaves_saveFailed_retriesSave() throws Exception {
+        Path filePath = temporaryFolder.resolve("failingAddressBook.json");
+        IOException[] saveException = {DUMMY_IO_EXCEPTION};
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveException[0] != null) {
+                    throw saveException[0];
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), Runnable::run);
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + POLICY_DESC_AMY + NOTE_DESC_AMY;
+        assertThrows(CommandException.class, () -> logic.execute(addCommand));
+
+        // The failure was already reported by the command, but the changes are still not saved
+        assertThrows(IOException.class, () -> logic.awaitPendingSaves());
+
+        saveException[0] = null;
+        logic.awaitPendingSaves();
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -177,7 +230,8 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        logic = new LogicManager(model, storage);
+        // Saves run on the calling thread, so that the failure is reported by the command that triggered it
+        logic = new LogicManager(model, storage, Runnable::run);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -9,9 +9,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -148,11 +150,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> findByPolicyNumber(String policyNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -178,6 +190,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public LocalDate getToday() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getRenewalsList() {
             return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList());
@@ -188,6 +205,11 @@ public class AddCommandTest {
             // do nothing
         }
 
+        @Override
+        public void updateRenewalsList(LocalDate startDate, LocalDate endDate) {
+            // do nothing
+        }
+
         @Override
         public void updateSortedRenewalsList(Comparator<Person> comparator) {
             // do nothing
@@ -5,9 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.OptionalInt;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.CommandResult.RenewalsFilter;
+import seedu.address.logic.commands.CommandResult.Selection;
+
 public class CommandResultTest {
+    private static final LocalDate START_DATE = LocalDate.of(2025, 3, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2025, 3, 31);
+
     @Test
     public void equals() {
         CommandResult commandResult = new CommandResult("feedback");
@@ -33,6 +43,46 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different renewalsFilter value -> returns false
+        CommandResult filtered = commandResult.withRenewalsFilter(RenewalsFilter.between(START_DATE, END_DATE));
+        assertFalse(commandResult.equals(filtered));
+        assertFalse(filtered.equals(commandResult.withRenewalsFilter(RenewalsFilter.NONE)));
+        assertTrue(filtered.equals(commandResult.withRenewalsFilter(RenewalsFilter.between(START_DATE, END_DATE))));
+
+        // different resultCount value -> returns false
+        assertFalse(commandResult.equals(commandResult.withResultCount(0)));
+        assertFalse(commandResult.withResultCount(0).equals(commandResult.withResultCount(1)));
+
+        // different selection value -> returns false
+        assertFalse(commandResult.equals(commandResult.withSelection(Selection.FIRST_PERSON)));
+    }
+
+    @Test
+    public void withPayloads_feedbackAndFlagsKept() {
+        CommandResult commandResult = new CommandResult("feedback", true, false)
+                .withRenewalsFilter(RenewalsFilter.between(START_DATE, END_DATE))
+                .withResultCount(3)
+                .withSelection(Selection.FIRST_PERSON);
+        assertEquals("feedback", commandResult.getFeedbackToUser());
+        assertTrue(commandResult.isShowHelp());
+        assertFalse(commandResult.isExit());
+        assertEquals(OptionalInt.of(3), commandResult.getResultCount());
+        assertEquals(Selection.FIRST_PERSON, commandResult.getSelection());
+
+        RenewalsFilter renewalsFilter = commandResult.getRenewalsFilter().get();
+        assertTrue(renewalsFilter.isActive());
+        assertEquals(START_DATE, renewalsFilter.getStartDate());
+        assertEquals(END_DATE, renewalsFilter.getEndDate());
+    }
+
+    @Test
+    public void getPayloads_noPayloads_empty() {
+        CommandResult commandResult = new CommandResult("feedback");
+        assertEquals(Optional.empty(), commandResult.getRenewalsFilter());
+        assertEquals(OptionalInt.empty(), commandResult.getResultCount());
+        assertEquals(Selection.UNCHANGED, commandResult.getSelection());
+        assertFalse(RenewalsFilter.NONE.isActive());
     }
 
     @Test
@@ -57,7 +107,8 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + "}";
+                + ", exit=" + commandResult.isExit() + ", renewalsFilter=null, resultCount=null"
+                + ", selection=" + commandResult.getSelection() + "}";
         assertEquals(expected, commandResult.toString());
     }
 }
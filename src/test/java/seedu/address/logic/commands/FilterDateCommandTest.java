@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,6 +56,9 @@ public class FilterDateCommandTest {
                 startDate.format(RenewalDate.DATE_FORMATTER),
                 endDate.format(RenewalDate.DATE_FORMATTER)),
                 result.getFeedbackToUser());
+        assertEquals(Optional.of(CommandResult.RenewalsFilter.between(startDate, endDate)),
+                result.getRenewalsFilter());
+        assertEquals(OptionalInt.of(0), result.getResultCount());
         assertTrue(model.getFilteredPersonList().isEmpty());
     }
 
@@ -74,6 +79,9 @@ public class FilterDateCommandTest {
                 startDate.format(RenewalDate.DATE_FORMATTER),
                 endDate.format(RenewalDate.DATE_FORMATTER)),
                 result.getFeedbackToUser());
+        assertEquals(Optional.of(CommandResult.RenewalsFilter.between(startDate, endDate)),
+                result.getRenewalsFilter());
+        assertEquals(OptionalInt.of(2), result.getResultCount());
         List<Person> filteredList = model.getRenewalsList();
         assertEquals(2, filteredList.size());
         assertTrue(filteredList.contains(alice));
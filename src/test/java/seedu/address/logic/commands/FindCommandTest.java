@@ -33,65 +33,65 @@ public class FindCommandTest {
 
     @Test
     public void execute_allFieldsSpecified_success() {
-        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        CommandResult expectedResult = expectedResult(1);
         FindPersonsPredicate predicate = new FindPersonsPredicateBuilder(ALICE).build();
         FindCommand command = new FindCommand(predicate, FindCommand.DEFAULT_SORT);
         expectedModel.updateFilteredPersonList(predicate);
-        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
         assertEquals(List.of(ALICE), model.getFilteredPersonList());
     }
 
     @Test
     public void execute_someFieldsSpecified_success() {
-        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        CommandResult expectedResult = expectedResult(1);
         FindPersonsPredicate predicate = new FindPersonsPredicateBuilder()
                 .withNames("Kunz")
                 .build();
         FindCommand command = new FindCommand(predicate, FindCommand.DEFAULT_SORT);
         expectedModel.updateFilteredPersonList(predicate);
-        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
         assertEquals(Arrays.asList(FIONA), model.getFilteredPersonList());
     }
 
     @Test
     public void execute_zeroFieldMatches_noPersonFound() {
-        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        CommandResult expectedResult = expectedResult(0);
         FindPersonsPredicate predicate = new FindPersonsPredicateBuilder().withNames("Amy").build();
         FindCommand command = new FindCommand(predicate, FindCommand.DEFAULT_SORT);
         expectedModel.updateFilteredPersonList(predicate);
-        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
     @Test
     public void execute_multipleFieldsMatches_multiplePersonsFound() {
-        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        CommandResult expectedResult = expectedResult(3);
         FindPersonsPredicate predicate = new FindPersonsPredicateBuilder().withNames("Kurz", "Elle", "Kunz").build();
         FindCommand command = new FindCommand(predicate, FindCommand.DEFAULT_SORT);
         expectedModel.updateFilteredPersonList(predicate);
-        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
     @Test
     public void execute_sortByName_sortsCorrectly() {
-        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        CommandResult expectedResult = expectedResult(2);
         FindPersonsPredicate predicate = new FindPersonsPredicateBuilder().withNames("Alice", "Benson").build();
         FindCommand command = new FindCommand(predicate, FindCommand.SORT_BY_NAME);
         expectedModel.updateFilteredPersonList(predicate);
         expectedModel.updateSortedPersonList(FindCommand.NAME_COMPARATOR);
-        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
         assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
     }
 
     @Test
     public void execute_sortByTag_sortsCorrectly() {
-        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        CommandResult expectedResult = expectedResult(2);
         FindPersonsPredicate predicate = new FindPersonsPredicateBuilder().withNames("Alice", "Benson").build();
         FindCommand command = new FindCommand(predicate, FindCommand.SORT_BY_TAG);
         expectedModel.updateFilteredPersonList(predicate);
         expectedModel.updateSortedPersonList(FindCommand.TAG_COMPARATOR);
-        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
         assertEquals(Arrays.asList(BENSON, ALICE), model.getFilteredPersonList());
     }
 
@@ -131,4 +131,13 @@ public class FindCommandTest {
                 + ", sortOrder=" + FindCommand.DEFAULT_SORT + "}";
         assertEquals(expected, findCommand.toString());
     }
+
+    /**
+     * Returns the result of a find command that found {@code personCount} persons.
+     */
+    private static CommandResult expectedResult(int personCount) {
+        return new CommandResult(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, personCount))
+                .withResultCount(personCount)
+                .withSelection(CommandResult.Selection.FIRST_PERSON);
+    }
 }
@@ -0,0 +1,141 @@
+package seedu.address.logic.commands;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.FindCommand.FindPersonsPredicate;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneContainsNumbersPredicate;
+import seedu.address.model.person.Policy;
+import seedu.address.model.person.PolicyType;
+import seedu.address.model.person.PolicyTypeContainsKeywordsPredicate;
+import seedu.address.model.person.RenewalDate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * A utility class to compare ways of finding persons with a {@code FindPersonsPredicate} matching a name, phone, tag
+ * or policy type. Run with the number of persons to generate as the only argument, which defaults to 100000.
+ *
+ * "Eager" evaluates every field of every person as {@code FindPersonsPredicate#test} used to, lowercasing the field
+ * and keyword on each call. "Ordered" tests every person, trying the fields in the default order and stopping at the
+ * first match. "Indexed" searches the address book, which tests only the candidates found through the search index,
+ * trying the fields that leave the most candidates first.
+ */
+public class FindPersonsPredicateBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Siti",
+        "Wei Ming"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Wong", "Yeo", "Balakrishnan", "Goh"};
+
+    public static void main(String[] args) {
+        int personCount = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        List<Person> persons = generatePersons(personCount);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+
+        FindPersonsPredicate predicate = new FindPersonsPredicate();
+        predicate.setNamePredicate(new NameContainsKeywordsPredicate(Set.of(new Name("balakrishnan"))));
+        predicate.setPhonePredicate(new PhoneContainsNumbersPredicate(Set.of(new Phone("8123"))));
+        predicate.setTagPredicate(new TagContainsKeywordsPredicate(Set.of(new Tag("vip"))));
+        predicate.setPolicyTypePredicate(new PolicyTypeContainsKeywordsPredicate(Set.of(PolicyType.TRAVEL)));
+
+        benchmark("Eager", () -> filter(persons, person -> testEagerly(predicate, person)));
+        benchmark("Ordered", () -> filter(persons, new FindPersonsPredicate(predicate)));
+        benchmark("Indexed", () -> filter(persons, addressBook.search(new FindPersonsPredicate(predicate)).get()));
+    }
+
+    private static void benchmark(String name, Query query) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            query.run();
+        }
+
+        long nanos = 0;
+        int matchCount = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            matchCount = query.run().size();
+            nanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("%-7s %7d matches: %7.2f ms%n", name, matchCount, nanos / 1e6 / MEASURED_ROUNDS);
+    }
+
+    private static List<Person> filter(List<Person> persons, Predicate<Person> predicate) {
+        return persons.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if {@code person} matches {@code predicate}, the way {@code FindPersonsPredicate#test} did before
+     * it stopped at the first matching field.
+     */
+    private static boolean testEagerly(FindPersonsPredicate predicate, Person person) {
+        boolean nameMatch = predicate.getNamePredicate().flatMap(NameContainsKeywordsPredicate::getNames)
+                .map(names -> names.stream().anyMatch(name ->
+                        containsIgnoreCase(person.getName().fullName, name.fullName)))
+                .orElse(false);
+        boolean phoneMatch = predicate.getPhonePredicate().flatMap(PhoneContainsNumbersPredicate::getNumbers)
+                .map(numbers -> numbers.stream().anyMatch(number ->
+                        containsIgnoreCase(person.getPhone().value, number.value)))
+                .orElse(false);
+        boolean policyTypeMatch = predicate.getPolicyTypePredicate()
+                .flatMap(PolicyTypeContainsKeywordsPredicate::getPolicyTypes)
+                .map(types -> types.contains(person.getPolicy().getType()))
+                .orElse(false);
+        boolean tagMatch = predicate.getTagPredicate().flatMap(TagContainsKeywordsPredicate::getTags)
+                .map(tags -> tags.stream().anyMatch(tag -> person.getTags().stream()
+                        .anyMatch(personTag -> personTag.tagName.equalsIgnoreCase(tag.tagName))))
+                .orElse(false);
+        return nameMatch || phoneMatch || policyTypeMatch || tagMatch;
+    }
+
+    private static boolean containsIgnoreCase(String sentence, String searchTerm) {
+        return sentence.toLowerCase().contains(searchTerm.trim().toLowerCase());
+    }
+
+    /**
+     * Returns {@code count} persons with distinct names, phones and policy numbers. One in fifty is tagged as a VIP.
+     */
+    private static List<Person> generatePersons(int count) {
+        Email email = new Email("client@example.com");
+        RenewalDate renewalDate = new RenewalDate(LocalDate.now().plusDays(30).format(RenewalDate.DATE_FORMATTER));
+        TagSet vip = TagSet.of(List.of(Tag.of("VIP")));
+        PolicyType[] policyTypes = PolicyType.values();
+
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Name name = new Name(FIRST_NAMES[i % FIRST_NAMES.length] + " "
+                    + LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length] + " " + i);
+            Phone phone = new Phone(String.valueOf(80000000 + i));
+            Address address = new Address("Blk " + (i % 500) + " Clementi Ave 3");
+            Policy policy = new Policy(String.valueOf(i), renewalDate, policyTypes[i % policyTypes.length]);
+            TagSet tags = (i % 50 == 0) ? vip : TagSet.EMPTY;
+            persons.add(new Person(name, phone, email, address, policy, Note.EMPTY, tags));
+        }
+        return persons;
+    }
+
+    /**
+     * A query returning the persons it found.
+     */
+    @FunctionalInterface
+    private interface Query {
+        List<Person> run();
+    }
+}
@@ -5,11 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.Email;
@@ -223,6 +225,24 @@ public class FindPersonsPredicateTest {
         assertFalse(predicate.test(ALICE));
     }
 
+    @Test
+    public void test_afterCandidatesCounted_matchesSamePersons() {
+        FindCommand.FindPersonsPredicate predicate = new FindPersonsPredicateBuilder()
+                .withNames("Meier")
+                .withPhones(BOB.getPhone().value)
+                .withTags("friends")
+                .build();
+        FindCommand.FindPersonsPredicate uncounted = new FindCommand.FindPersonsPredicate(predicate);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        assertTrue(addressBook.search(predicate).isPresent());
+        for (Person person : addressBook.getPersonList()) {
+            assertEquals(uncounted.test(person), predicate.test(person));
+        }
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BOB));
+    }
+
     @Test
     public void copy_constructor_equalPredicates() {
         FindCommand.FindPersonsPredicate original = new FindPersonsPredicateBuilder()
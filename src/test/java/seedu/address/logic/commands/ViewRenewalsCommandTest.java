@@ -4,14 +4,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.RenewalDate;
 import seedu.address.testutil.PersonBuilder;
@@ -47,6 +53,7 @@ public class ViewRenewalsCommandTest {
         ViewRenewalsCommand command = new ViewRenewalsCommand(30, ViewRenewalsCommand.SORT_BY_DATE);
         CommandResult result = command.execute(model);
         assertEquals(String.format(ViewRenewalsCommand.MESSAGE_NO_RENEWALS, 30), result.getFeedbackToUser());
+        assertEquals(Optional.of(CommandResult.RenewalsFilter.NONE), result.getRenewalsFilter());
         assertTrue(model.getRenewalsList().isEmpty());
     }
 
@@ -73,6 +80,25 @@ public class ViewRenewalsCommandTest {
         assertTrue(model.getFilteredPersonList().contains(charlie));
     }
 
+    @Test
+    public void execute_modelClock_countsFromModelDate() {
+        LocalDate today = LocalDate.now().plusDays(20);
+        Clock clock = Clock.fixed(today.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        Model modelWithClock = new ModelManager(new AddressBook(), new UserPrefs(), clock);
+        modelWithClock.addPerson(alice);
+        modelWithClock.addPerson(bob);
+        modelWithClock.addPerson(charlie);
+
+        CommandResult result = new ViewRenewalsCommand(30, ViewRenewalsCommand.SORT_BY_DATE).execute(modelWithClock);
+        assertEquals(String.format(ViewRenewalsCommand.MESSAGE_SUCCESS + " between %s and %s",
+            1, today.format(RenewalDate.DATE_FORMATTER), today.plusDays(30).format(RenewalDate.DATE_FORMATTER)),
+            result.getFeedbackToUser());
+        assertEquals(Optional.of(CommandResult.RenewalsFilter.between(today, today.plusDays(30))),
+            result.getRenewalsFilter());
+        assertEquals(OptionalInt.of(1), result.getResultCount());
+        assertEquals(List.of(bob), modelWithClock.getRenewalsList());
+    }
+
     @Test
     public void execute_sortByName_sortsCorrectly() {
         model.addPerson(alice);
@@ -41,6 +41,8 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
@@ -56,7 +58,7 @@ import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandParserTest {
-    private AddCommandParser parser = new AddCommandParser();
+    private AddCommandParser parser = new AddCommandParser(LocalDate.now());
 
     @Test
     public void parse_allFieldsPresent_success() {
@@ -165,6 +167,15 @@ public class AddCommandParserTest {
                 new AddCommand(expectedPerson));
     }
 
+    @Test
+    public void parse_renewalDateMissing_defaultsToOneYearFromToday() {
+        AddCommandParser parserOnFixedDate = new AddCommandParser(LocalDate.of(2030, 1, 15));
+        Person expectedPerson = new PersonBuilder(AMY).withTags().withNote("").withRenewalDate("15-01-2031").build();
+        assertParseSuccess(parserOnFixedDate,
+                NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + POLICY_DESC_AMY,
+                new AddCommand(expectedPerson));
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE);
@@ -37,7 +37,7 @@ import seedu.address.testutil.PersonUtil;
 
 public class AddressBookParserTest {
 
-    private final AddressBookParser parser = new AddressBookParser();
+    private final AddressBookParser parser = new AddressBookParser(LocalDate::now);
 
     @Test
     public void parseCommand_add() throws Exception {
@@ -13,7 +13,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 public class FilterDateCommandParserTest {
 
-    private final FilterDateCommandParser parser = new FilterDateCommandParser();
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    private final FilterDateCommandParser parser = new FilterDateCommandParser(TODAY);
 
     @Test
     public void parse_validArgs_returnsFilterDateCommand() throws Exception {
@@ -51,6 +53,12 @@ public class FilterDateCommandParserTest {
         assertParseFailure(parser, userInput, FilterDateCommandParser.MESSAGE_INVALID_END_DATE);
     }
 
+    @Test
+    public void parse_endDateJustBeyondMaxYears_throwsParseException() {
+        String userInput = " sd/01-03-2025 ed/02-03-2030"; // one day after five years from today
+        assertParseFailure(parser, userInput, FilterDateCommandParser.MESSAGE_INVALID_END_DATE);
+    }
+
     @Test
     public void parse_invalidDateFormat_throwsParseException() {
         String userInput = " sd/2025-01-01 ed/2025-03-31 s/date"; // Incorrect date format
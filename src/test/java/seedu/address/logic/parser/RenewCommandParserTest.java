@@ -12,6 +12,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_RENEWAL_DATE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
@@ -21,7 +23,7 @@ import seedu.address.model.person.RenewalDate;
 
 public class RenewCommandParserTest {
 
-    private RenewCommandParser parser = new RenewCommandParser();
+    private RenewCommandParser parser = new RenewCommandParser(LocalDate.now());
 
     @Test
     public void parse_allFieldsPresent_success() {
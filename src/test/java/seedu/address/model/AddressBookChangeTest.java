@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBookChange.Kind;
+import seedu.address.model.person.Person;
+
+public class AddressBookChangeTest {
+
+    @Test
+    public void getChangesSince_earlierChange_returnsLaterChangesOnly() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookChange earlier = addressBook.getLatestChange().get();
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(CARL, ALICE);
+        addressBook.addPerson(CARL);
+        List<AddressBookChange> changes = addressBook.getLatestChange().get().getChangesSince(earlier);
+
+        assertEquals(List.of(Kind.REMOVE, Kind.SET, Kind.ADD),
+                changes.stream().map(AddressBookChange::getKind).toList());
+        changes.forEach(change -> change.applyTo(persons));
+        assertEquals(addressBook.getPersonList(), persons);
+    }
+
+    @Test
+    public void getChangesSince_sameChange_returnsEmptyList() {
+        AddressBookChange latest = getTypicalAddressBook().getLatestChange().get();
+        assertTrue(latest.getChangesSince(latest).isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_null_startsWithAllPersons() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.removePerson(BENSON);
+        List<AddressBookChange> changes = addressBook.getLatestChange().get().getChangesSince(null);
+
+        assertEquals(Kind.RESET, changes.get(0).getKind());
+        List<Person> persons = new ArrayList<>(List.of(ALICE));
+        changes.forEach(change -> change.applyTo(persons));
+        assertEquals(addressBook.getPersonList(), persons);
+    }
+
+    @Test
+    public void getChangesSince_copiedAddressBook_linksToChangesOfOriginal() {
+        AddressBook original = getTypicalAddressBook();
+        AddressBookChange originalChange = original.getLatestChange().get();
+        AddressBook copy = new AddressBook(original);
+
+        assertTrue(copy.getLatestChange().get().getChangesSince(originalChange).isEmpty());
+        copy.removePerson(ALICE);
+        assertEquals(List.of(Kind.REMOVE), copy.getLatestChange().get().getChangesSince(originalChange).stream()
+                .map(AddressBookChange::getKind).toList());
+    }
+
+    @Test
+    public void getChangesSince_earlierChangeForgotten_startsWithAllPersons() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookChange earlier = addressBook.getLatestChange().get();
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+
+        // Enough changes for the earlier ones to be forgotten behind a checkpoint
+        Person alice = addressBook.getPersonList().get(0);
+        for (int i = 0; i < 2000; i++) {
+            addressBook.removePerson(alice);
+            addressBook.addPerson(alice);
+        }
+        List<AddressBookChange> changes = addressBook.getLatestChange().get().getChangesSince(earlier);
+
+        assertEquals(Kind.RESET, changes.get(0).getKind());
+        assertTrue(changes.size() <= 2000);
+        changes.forEach(change -> change.applyTo(persons));
+        assertEquals(addressBook.getPersonList(), persons);
+    }
+}
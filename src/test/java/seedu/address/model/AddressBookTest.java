@@ -7,6 +7,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BASE_DATE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.time.LocalDateTime;
@@ -14,6 +17,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +25,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.logic.parser.DateTimeParser;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RenewalDate;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -80,6 +85,76 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void findByPolicyNumber_personInAddressBook_returnsPerson() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), addressBook.findByPolicyNumber(ALICE.getPolicy().getPolicyNumber()));
+    }
+
+    @Test
+    public void findByPolicyNumber_afterEditAndRemove_staysConsistent() {
+        addressBook.addPerson(ALICE);
+        Person renumberedAlice = new PersonBuilder(ALICE).withPolicy("999999").build();
+        addressBook.setPerson(ALICE, renumberedAlice);
+        assertEquals(Optional.empty(), addressBook.findByPolicyNumber(ALICE.getPolicy().getPolicyNumber()));
+        assertEquals(Optional.of(renumberedAlice), addressBook.findByPolicyNumber("999999"));
+
+        addressBook.removePerson(renumberedAlice);
+        assertEquals(Optional.empty(), addressBook.findByPolicyNumber("999999"));
+    }
+
+    @Test
+    public void getPersonsRenewingBetween_inclusiveRange_returnsPersonsInDateOrder() {
+        addressBook.addPerson(CARL);
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL),
+                addressBook.getPersonsRenewingBetween(BASE_DATE, BASE_DATE.plusDays(10)));
+        assertEquals(Arrays.asList(BENSON),
+                addressBook.getPersonsRenewingBetween(BASE_DATE.plusDays(1), BASE_DATE.plusDays(9)));
+        assertEquals(Collections.emptyList(),
+                addressBook.getPersonsRenewingBetween(BASE_DATE.plusDays(10), BASE_DATE));
+    }
+
+    @Test
+    public void getPersonsRenewingBetween_afterEditAndRemove_staysConsistent() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Person movedAlice = new PersonBuilder(ALICE)
+                .withRenewalDate(BASE_DATE.plusDays(5).format(RenewalDate.DATE_FORMATTER)).build();
+        addressBook.setPerson(ALICE, movedAlice);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsRenewingBetween(BASE_DATE, BASE_DATE));
+        // persons renewing on the same date stay in list order
+        assertEquals(Arrays.asList(movedAlice, BENSON),
+                addressBook.getPersonsRenewingBetween(BASE_DATE.plusDays(5), BASE_DATE.plusDays(5)));
+
+        addressBook.removePerson(BENSON);
+        assertEquals(Arrays.asList(movedAlice),
+                addressBook.getPersonsRenewingBetween(BASE_DATE, BASE_DATE.plusDays(5)));
+    }
+
+    @Test
+    public void getPersonsRenewingBetween_afterEdit_keepsListOrderOnSameDate() {
+        Person carlOnAliceDate = new PersonBuilder(CARL).withRenewalDate(ALICE.getPolicy().renewalDate.toString())
+                .build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(carlOnAliceDate);
+
+        // edited without changing the renewal date
+        Person editedAlice = new PersonBuilder(ALICE).withNote("Prefers email").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, carlOnAliceDate),
+                addressBook.getPersonsRenewingBetween(BASE_DATE, BASE_DATE));
+
+        // moved to a date between persons already renewing on it
+        Person bensonOnAliceDate = new PersonBuilder(BENSON).withRenewalDate(ALICE.getPolicy().renewalDate.toString())
+                .build();
+        addressBook.setPerson(BENSON, bensonOnAliceDate);
+        assertEquals(Arrays.asList(editedAlice, bensonOnAliceDate, carlOnAliceDate),
+                addressBook.getPersonsRenewingBetween(BASE_DATE, BASE_DATE));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -115,6 +190,38 @@ public class AddressBookTest {
         assertEquals(expected, addressBook.getLastUpdatedString());
     }
 
+    @Test
+    public void getVersion_afterEachChange_increases() {
+        long version = addressBook.getVersion();
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+        version = addressBook.getVersion();
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getVersion() > version);
+        version = addressBook.getVersion();
+
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertTrue(addressBook.getVersion() > version);
+        version = addressBook.getVersion();
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+        version = addressBook.getVersion();
+
+        addressBook.setLastUpdated(LocalDateTime.of(2025, 3, 13, 12, 0));
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_failedChange_unchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(version, addressBook.getVersion());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
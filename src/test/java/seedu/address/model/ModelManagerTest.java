@@ -11,13 +11,18 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.RenewalDate;
@@ -36,6 +41,17 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void getToday_fixedClock_returnsClockDate() {
+        LocalDate today = LocalDate.of(2030, 2, 28);
+        Clock clock = Clock.fixed(today.atTime(23, 59).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        ModelManager modelManagerWithClock = new ModelManager(new AddressBook(), new UserPrefs(), clock);
+        assertEquals(today, modelManagerWithClock.getToday());
+
+        modelManagerWithClock.addPerson(ALICE);
+        assertEquals(today.atTime(23, 59), modelManagerWithClock.getAddressBook().getLastUpdated());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -128,7 +144,7 @@ public class ModelManagerTest {
         modelManager.updateRenewalsList(PREDICATE_SHOW_ALL_PERSONS);
         // Sort by days until renewal (ascending)
         Comparator<Person> daysUntilRenewalComparator =
-                Comparator.comparingLong(person -> person.getPolicy().getDaysUntilRenewal());
+                Comparator.comparingLong(person -> person.getPolicy().getDaysUntilRenewal(modelManager.getToday()));
         modelManager.updateSortedRenewalsList(daysUntilRenewalComparator);
         // Check that the list is sorted correctly
         List<Person> sortedList = modelManager.getRenewalsList();
@@ -171,7 +187,7 @@ public class ModelManagerTest {
         modelManager.addPerson(personNextWeek);
         // Set a comparator first
         Comparator<Person> daysUntilRenewalComparator =
-                Comparator.comparingLong(person -> person.getPolicy().getDaysUntilRenewal());
+                Comparator.comparingLong(person -> person.getPolicy().getDaysUntilRenewal(modelManager.getToday()));
         modelManager.updateSortedRenewalsList(daysUntilRenewalComparator);
         // Now update the renewals list - it should maintain the sorting
         modelManager.updateRenewalsList(PREDICATE_SHOW_ALL_PERSONS);
@@ -183,6 +199,94 @@ public class ModelManagerTest {
         assertEquals(personNextMonth, sortedList.get(2));
     }
 
+    @Test
+    public void updateRenewalsList_sameResult_noChangeFired() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = startDate.plusYears(10);
+        modelManager.updateRenewalsList(startDate, endDate);
+        modelManager.updateSortedRenewalsList(Person.RENEWAL_DATE_COMPARATOR);
+
+        ObservableList<Person> renewals = modelManager.getRenewalsList();
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        renewals.addListener((ListChangeListener<Person>) changes::add);
+
+        // Repeating the same query, as commands that do not change the renewals do, fires nothing
+        modelManager.updateRenewalsList(startDate, endDate);
+        modelManager.updateSortedRenewalsList(Person.RENEWAL_DATE_COMPARATOR);
+        assertTrue(changes.isEmpty());
+
+        modelManager.updateRenewalsList(startDate, startDate);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void updateRenewalsList_dateRange_showsOnlyPersonsInRange() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        LocalDate aliceRenewalDate = ALICE.getRenewalDateValue();
+
+        modelManager.updateRenewalsList(aliceRenewalDate, aliceRenewalDate.plusDays(1));
+        assertEquals(List.of(ALICE), modelManager.getRenewalsList());
+
+        // edits are reflected by re-running the same range query
+        Person movedBenson = new PersonBuilder(BENSON).withRenewalDate(
+                aliceRenewalDate.format(RenewalDate.DATE_FORMATTER)).build();
+        modelManager.setPerson(BENSON, movedBenson);
+        assertEquals(List.of(ALICE, movedBenson), modelManager.getRenewalsList());
+    }
+
+    @Test
+    public void renewalsList_personListChanges_updatedInSortedPosition() {
+        LocalDate aliceRenewalDate = ALICE.getRenewalDateValue();
+        modelManager.updateRenewalsList(aliceRenewalDate, aliceRenewalDate.plusDays(30));
+        modelManager.updateSortedRenewalsList(Comparator.comparing(Person::getRenewalDateValue));
+
+        // added persons inside the range are inserted in sorted position
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getRenewalsList());
+
+        // edited persons are moved, and dropped once they fall outside the range
+        Person laterAlice = new PersonBuilder(ALICE).withRenewalDate(
+                aliceRenewalDate.plusDays(20).format(RenewalDate.DATE_FORMATTER)).build();
+        modelManager.setPerson(ALICE, laterAlice);
+        assertEquals(List.of(BENSON, laterAlice), modelManager.getRenewalsList());
+        Person outOfRangeAlice = new PersonBuilder(ALICE).withRenewalDate(
+                aliceRenewalDate.plusDays(31).format(RenewalDate.DATE_FORMATTER)).build();
+        modelManager.setPerson(laterAlice, outOfRangeAlice);
+        assertEquals(List.of(BENSON), modelManager.getRenewalsList());
+
+        // deleted persons are removed
+        modelManager.deletePerson(BENSON);
+        assertTrue(modelManager.getRenewalsList().isEmpty());
+    }
+
+    @Test
+    public void updateFilteredPersonList_findPredicate_followsPersonListChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new FindPersonsPredicateBuilder().withNames("Meier").build());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        // an edited person stays listed while it still matches
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(editedBenson), modelManager.getFilteredPersonList());
+
+        // and is dropped once it no longer matches
+        Person renamedBenson = new PersonBuilder(editedBenson).withName("Benson Tan").build();
+        modelManager.setPerson(editedBenson, renamedBenson);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void updateRenewalsList_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.updateRenewalsList(null, LocalDate.now()));
+        assertThrows(NullPointerException.class, () -> modelManager.updateRenewalsList(LocalDate.now(), null));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -262,7 +366,7 @@ public class ModelManagerTest {
         modelManager1.updateSortedRenewalsList(
                 Comparator.comparing(person -> person.getName().fullName));
         modelManager2.updateSortedRenewalsList(
-                Comparator.comparingLong(person -> person.getPolicy().getDaysUntilRenewal()));
+                Comparator.comparingLong(person -> person.getPolicy().getDaysUntilRenewal(modelManager2.getToday())));
         // Models should not be equal due to different comparators
         assertFalse(modelManager1.equals(modelManager2));
     }
@@ -328,7 +432,7 @@ public class ModelManagerTest {
         assertEquals(nameComparator, modelManager.getRenewalsComparator());
         // Set a different comparator
         Comparator<Person> daysUntilRenewalComparator =
-                Comparator.comparingLong(person -> person.getPolicy().getDaysUntilRenewal());
+                Comparator.comparingLong(person -> person.getPolicy().getDaysUntilRenewal(modelManager.getToday()));
         modelManager.updateSortedRenewalsList(daysUntilRenewalComparator);
         // Check that getRenewalsComparator returns the updated comparator
         assertEquals(daysUntilRenewalComparator, modelManager.getRenewalsComparator());
@@ -9,26 +9,12 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.model.RenewalProcessor.RenewalEntry;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.RenewalDate;
 import seedu.address.testutil.PersonBuilder;
 
 public class RenewalProcessorTest {
 
-    @Test
-    public void renewalEntry_createFromPerson_allFieldsCorrect() {
-        Person person = new PersonBuilder().build();
-        RenewalEntry entry = new RenewalEntry(person);
-
-        assertEquals(person.getName().toString(), entry.getClient());
-        assertEquals(person.getPolicy().policyNumber, entry.getPolicy());
-        assertEquals(person.getPolicy().renewalDate.value, entry.getRenewalDate());
-        assertEquals(person.getPolicy().getDaysUntilRenewal(), entry.getDaysLeft());
-        assertEquals("Life", entry.getType()); // Current placeholder value
-        assertEquals(person.getPhone().toString(), entry.getContact());
-    }
-
     @Test
     public void processRenewals_withMultiplePersons_preservesOrder() {
         Person person1 = new PersonBuilder()
@@ -45,20 +31,29 @@ public class RenewalProcessorTest {
                 .build();
 
         List<Person> persons = Arrays.asList(person1, person2, person3);
-        RenewalTableData tableData = RenewalProcessor.processRenewals(persons);
-        List<RenewalEntry> entries = tableData.getEntries();
+        RenewalTableData tableData = RenewalProcessor.processRenewals(persons, LocalDate.now());
 
         // Check that order is preserved
-        assertEquals(3, entries.size());
-        assertEquals("Alice", entries.get(0).getClient());
-        assertEquals("Bob", entries.get(1).getClient());
-        assertEquals("Charlie", entries.get(2).getClient());
+        assertEquals(3, tableData.size());
+        assertEquals("Alice", tableData.getClient(tableData.getRows().get(0)));
+        assertEquals("Bob", tableData.getClient(tableData.getRows().get(1)));
+        assertEquals("Charlie", tableData.getClient(tableData.getRows().get(2)));
+    }
+
+    @Test
+    public void processRenewals_givenToday_daysLeftCountedFromGivenDate() {
+        LocalDate renewalDate = LocalDate.now().plusDays(10);
+        Person person = new PersonBuilder()
+                .withPolicy("111111", renewalDate.format(RenewalDate.DATE_FORMATTER))
+                .build();
+        RenewalTableData tableData = RenewalProcessor.processRenewals(List.of(person), renewalDate.minusDays(3));
+        assertEquals(3, tableData.getDaysLeft(tableData.getRows().get(0)));
     }
 
     @Test
     public void processRenewals_withEmptyList_returnsEmptyTableData() {
-        RenewalTableData tableData = RenewalProcessor.processRenewals(Arrays.asList());
+        RenewalTableData tableData = RenewalProcessor.processRenewals(Arrays.asList(), LocalDate.now());
         assertNotNull(tableData);
-        assertEquals(0, tableData.getEntries().size());
+        assertEquals(0, tableData.size());
     }
 }
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Policy;
+import seedu.address.model.person.PolicyType;
+import seedu.address.model.person.RenewalDate;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * A utility class to compare filtering policies by a renewal date range and sorting them by renewal date, using
+ * {@code LocalDate} comparisons against the cached epoch days. Run with the number of policies to generate as the
+ * only argument, which defaults to 1000000.
+ */
+public class RenewalQueryBenchmark {
+
+    private static final int DEFAULT_POLICY_COUNT = 1000000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int RANGE_DAYS = 90;
+
+    public static void main(String[] args) {
+        int policyCount = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_POLICY_COUNT;
+        List<Person> persons = generatePersons(policyCount);
+        LocalDate startDate = LocalDate.now().plusDays(30);
+        LocalDate endDate = startDate.plusDays(RANGE_DAYS);
+
+        Predicate<Person> dateRange = person -> !person.getRenewalDateValue().isBefore(startDate)
+                && !person.getRenewalDateValue().isAfter(endDate);
+        Comparator<Person> dateOrder = Comparator.comparing(Person::getRenewalDateValue);
+        benchmark("LocalDate", persons, dateRange, dateOrder);
+
+        long startEpochDay = startDate.toEpochDay();
+        long endEpochDay = endDate.toEpochDay();
+        Predicate<Person> epochDayRange = person -> person.getPolicy().renewalDate.isBetween(startEpochDay,
+                endEpochDay);
+        benchmark("Epoch day", persons, epochDayRange, Person.RENEWAL_DATE_COMPARATOR);
+    }
+
+    private static void benchmark(String keyName, List<Person> persons, Predicate<Person> range,
+            Comparator<Person> order) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            query(persons, range, order);
+        }
+
+        long filterNanos = 0;
+        long sortNanos = 0;
+        int matchCount = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            List<Person> matches = persons.stream().filter(range).collect(Collectors.toList());
+            long filtered = System.nanoTime();
+            List<Person> sorted = new ArrayList<>(persons);
+            sorted.sort(order);
+            sortNanos += System.nanoTime() - filtered;
+            filterNanos += filtered - start;
+            matchCount = matches.size();
+        }
+
+        System.out.printf("%-9s %8d policies, %7d in range: filter %7.2f ms, sort %7.2f ms%n", keyName,
+                persons.size(), matchCount, filterNanos / 1e6 / MEASURED_ROUNDS, sortNanos / 1e6 / MEASURED_ROUNDS);
+    }
+
+    private static void query(List<Person> persons, Predicate<Person> range, Comparator<Person> order) {
+        persons.stream().filter(range).collect(Collectors.toList());
+        new ArrayList<>(persons).sort(order);
+    }
+
+    /**
+     * Returns {@code count} persons sharing all details but their policies, which renew over the next three years
+     * in a scattered order.
+     */
+    private static List<Person> generatePersons(int count) {
+        Name name = new Name("Client");
+        Phone phone = new Phone("91234567");
+        Email email = new Email("client@example.com");
+        Address address = new Address("Blk 1 Clementi Ave 3");
+        LocalDate firstRenewalDate = LocalDate.now().plusDays(1);
+        PolicyType[] policyTypes = PolicyType.values();
+
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RenewalDate renewalDate = new RenewalDate(firstRenewalDate.plusDays((i * 7919L) % (3 * 365))
+                    .format(RenewalDate.DATE_FORMATTER));
+            Policy policy = new Policy(String.valueOf(i), renewalDate, policyTypes[i % policyTypes.length]);
+            persons.add(new Person(name, phone, email, address, policy, Note.EMPTY, TagSet.EMPTY));
+        }
+        return persons;
+    }
+}
@@ -1,39 +1,86 @@
 package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
-import java.util.Arrays;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.model.RenewalProcessor.RenewalEntry;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PolicyType;
+import seedu.address.model.person.RenewalDate;
 import seedu.address.testutil.PersonBuilder;
 
 public class RenewalTableDataTest {
 
     @Test
-    public void constructor_withEntries_storesEntriesCorrectly() {
-        // Create some entries
-        RenewalEntry entry1 = new RenewalEntry(new PersonBuilder().withName("Alice").build());
-        RenewalEntry entry2 = new RenewalEntry(new PersonBuilder().withName("Bob").build());
-        List<RenewalEntry> entries = Arrays.asList(entry1, entry2);
-
-        RenewalTableData tableData = new RenewalTableData(entries);
-        assertNotNull(tableData.getEntries());
-        assertEquals(2, tableData.getEntries().size());
-        assertSame(entries, tableData.getEntries(), "Should return the same list instance");
+    public void constructor_withPersons_columnsCorrect() {
+        LocalDate today = LocalDate.now();
+        Person alice = new PersonBuilder().withName("Alice").withPhone("91234567")
+                .withPolicy("111111", today.plusDays(10).format(RenewalDate.DATE_FORMATTER))
+                .withPolicyType("Health").build();
+        Person bob = new PersonBuilder().withName("Bob").withPolicy("222222",
+                today.plusDays(3).format(RenewalDate.DATE_FORMATTER)).build();
+
+        RenewalTableData tableData = new RenewalTableData(List.of(alice, bob), today);
+        assertEquals(2, tableData.size());
+        int aliceSlot = tableData.getRows().get(0);
+        int bobSlot = tableData.getRows().get(1);
+        assertSame(alice, tableData.getPerson(aliceSlot));
+        assertEquals("Alice", tableData.getClient(aliceSlot));
+        assertEquals("111111", tableData.getPolicy(aliceSlot));
+        assertEquals(today.plusDays(10), tableData.getRenewalDate(aliceSlot));
+        assertEquals(today.plusDays(10).toEpochDay(), tableData.getRenewalEpochDay(aliceSlot));
+        assertEquals(10, tableData.getDaysLeft(aliceSlot));
+        assertEquals(PolicyType.HEALTH, tableData.getType(aliceSlot));
+        assertEquals("91234567", tableData.getContact(aliceSlot));
+        assertEquals("Bob", tableData.getClient(bobSlot));
+        assertEquals(3, tableData.getDaysLeft(bobSlot));
     }
 
     @Test
-    public void columnConstants_correctValues() {
-        assertEquals("client", RenewalTableData.CLIENT_COLUMN);
-        assertEquals("policy", RenewalTableData.POLICY_COLUMN);
-        assertEquals("renewalDate", RenewalTableData.RENEWAL_DATE_COLUMN);
-        assertEquals("daysLeft", RenewalTableData.DAYS_LEFT_COLUMN);
-        assertEquals("type", RenewalTableData.TYPE_COLUMN);
-        assertEquals("contact", RenewalTableData.CONTACT_COLUMN);
+    public void applyChange_sourceChanged_rowsFollowSourceAndKeepSlots() {
+        LocalDate today = LocalDate.now();
+        ObservableList<Person> source = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+        RenewalTableData tableData = new RenewalTableData(source, today);
+        source.addListener((ListChangeListener<Person>) tableData::applyChange);
+        List<String> rowChanges = new ArrayList<>();
+        tableData.getRows().addListener((ListChangeListener<Integer>) change -> rowChanges.add(change.toString()));
+        int carlSlot = tableData.getRows().get(2);
+
+        source.remove(ALICE);
+        source.add(0, DANIEL);
+        source.set(1, ELLE);
+        source.sort(Comparator.comparing(person -> person.getName().fullName, Comparator.reverseOrder()));
+
+        assertEquals(4, rowChanges.size());
+        assertEquals(List.of("Elle Meyer", "Daniel Meier", "Carl Kurz"), tableData.getRows().stream()
+                .map(tableData::getClient).toList());
+        assertEquals(carlSlot, tableData.getRows().get(2));
+        assertSame(CARL, tableData.getPerson(carlSlot));
+    }
+
+    @Test
+    public void setToday_laterDate_daysLeftCountedFromLaterDate() {
+        LocalDate today = LocalDate.now();
+        Person alice = new PersonBuilder().withPolicy("111111",
+                today.plusDays(10).format(RenewalDate.DATE_FORMATTER)).build();
+        RenewalTableData tableData = new RenewalTableData(List.of(alice), today);
+
+        tableData.setToday(today.plusDays(4));
+        assertEquals(today.plusDays(4), tableData.getToday());
+        assertEquals(6, tableData.getDaysLeft(tableData.getRows().get(0)));
     }
 }
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -85,6 +87,13 @@ public class NameContainsKeywordsPredicateTest {
                 .withAddress("Main Street").build()));
     }
 
+    @Test
+    public void getPreppedKeywords() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Set.of(new Name("Alice  Yeoh")));
+        assertEquals(Optional.of(List.of("alice yeoh")), predicate.getPreppedKeywords());
+        assertEquals(Optional.empty(), new NameContainsKeywordsPredicate(null).getPreppedKeywords());
+    }
+
     @Test
     public void toStringMethod() {
         Set<Name> keywords = Set.of(new Name("keyword1"), new Name("keyword2"));
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
+    @Test
+    public void getCandidates_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> searchIndex.getCandidates(null, "alice"));
+        assertThrows(NullPointerException.class, () -> searchIndex.getCandidates(PersonSearchIndex.Field.NAME,
+                null));
+    }
+
+    @Test
+    public void getCandidates_termShorterThanGram_returnsEmptyOptional() {
+        searchIndex.add(ALICE);
+        assertEquals(Optional.empty(), searchIndex.getCandidates(PersonSearchIndex.Field.NAME, "al"));
+    }
+
+    @Test
+    public void getCandidates_partialWord_returnsPersonsContainingTerm() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+        assertEquals(Optional.of(Set.of(ALICE)), searchIndex.getCandidates(PersonSearchIndex.Field.NAME, "paul"));
+        assertEquals(Optional.of(Set.of(BENSON)), searchIndex.getCandidates(PersonSearchIndex.Field.EMAIL,
+                "johnd@"));
+        assertEquals(Optional.of(Set.of()), searchIndex.getCandidates(PersonSearchIndex.Field.NAME, "xyz"));
+    }
+
+    @Test
+    public void getCandidates_afterRemove_staysConsistent() {
+        searchIndex.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        searchIndex.remove(ALICE);
+        searchIndex.add(renamedAlice);
+        assertEquals(Optional.of(Set.of()), searchIndex.getCandidates(PersonSearchIndex.Field.NAME, "pauline"));
+        assertEquals(Optional.of(Set.of(renamedAlice)), searchIndex.getCandidates(PersonSearchIndex.Field.NAME,
+                "alicia"));
+
+        searchIndex.remove(renamedAlice);
+        assertEquals(Optional.of(Set.of()), searchIndex.getCandidates(PersonSearchIndex.Field.NAME, "alicia"));
+    }
+
+    @Test
+    public void getPersonsWithTag_differentCase_returnsTaggedPersons() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+        assertEquals(Set.of(BENSON), searchIndex.getPersonsWithTag("OWESMONEY"));
+        assertTrue(searchIndex.getPersonsWithTag("colleagues").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithPolicyType_returnsPersonsWithType() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+        assertEquals(Set.of(ALICE), searchIndex.getPersonsWithPolicyType(PolicyType.LIFE));
+        assertTrue(searchIndex.getPersonsWithPolicyType(PolicyType.TRAVEL).isEmpty());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -25,6 +26,13 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void constructor_equalTags_shareInstance() {
+        Person alice = new PersonBuilder(ALICE).withTags("friends").build();
+        Person benson = new PersonBuilder(BENSON).withTags("friends").build();
+        assertSame(alice.getTags().iterator().next(), benson.getTags().iterator().next());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -116,6 +124,15 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getSearchKeys_returnsCachedNormalizedDetails() {
+        Person person = new PersonBuilder(ALICE).withAddress("123,  Jurong West").build();
+        SearchKeys expectedKeys = new SearchKeys("alice pauline", "94351253", "alice@example.com",
+                "123, jurong west", ALICE.getPolicy().getPolicyNumber());
+        assertEquals(expectedKeys, person.getSearchKeys());
+        assertSame(person.getSearchKeys(), person.getSearchKeys());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
@@ -123,49 +123,14 @@ public class PolicyTest {
         assertTrue(Policy.isValidPolicy("12492648284628492623")); // long policy numbers
     }
 
-    @Test
-    public void isValidRenewalDate() {
-        // null renewal date
-        assertFalse(Policy.isValidRenewalDate(null));
-
-        // invalid formats
-        assertFalse(Policy.isValidRenewalDate("")); // empty string
-        assertFalse(Policy.isValidRenewalDate(" ")); // spaces only
-        assertFalse(Policy.isValidRenewalDate("2024-03-15")); // wrong format
-        assertFalse(Policy.isValidRenewalDate("15/03/2024")); // wrong format
-        assertFalse(Policy.isValidRenewalDate("a1-03-2024")); // non-numeric day
-        assertFalse(Policy.isValidRenewalDate("15-b3-2024")); // non-numeric month
-        assertFalse(Policy.isValidRenewalDate("15-03-20c4")); // non-numeric year
-        assertFalse(Policy.isValidRenewalDate("32-03-2024")); // invalid day
-        assertFalse(Policy.isValidRenewalDate("15-13-2024")); // invalid month
-        assertFalse(Policy.isValidRenewalDate("29-02-2023")); // invalid date (non-leap year)
-        assertFalse(Policy.isValidRenewalDate("31-04-2024")); // invalid date (April has 30 days)
-        assertFalse(Policy.isValidRenewalDate("31-06-2024")); // invalid date (June has 30 days)
-        assertFalse(Policy.isValidRenewalDate("31-09-2024")); // invalid date (September has 30 days)
-        assertFalse(Policy.isValidRenewalDate("31-11-2024")); // invalid date (November has 30 days)
-
-        // past dates and today should be invalid
-        String pastDate = LocalDate.now().minusDays(1).format(RenewalDate.DATE_FORMATTER);
-        assertFalse(Policy.isValidRenewalDate(pastDate)); // yesterday
-        assertFalse(Policy.isValidRenewalDate(LocalDate.now().format(RenewalDate.DATE_FORMATTER))); // today
-
-        // valid future dates
-        String tomorrow = LocalDate.now().plusDays(1).format(RenewalDate.DATE_FORMATTER);
-        String nextMonth = LocalDate.now().plusMonths(1).format(RenewalDate.DATE_FORMATTER);
-        String nextYear = LocalDate.now().plusYears(1).format(RenewalDate.DATE_FORMATTER);
-        assertTrue(Policy.isValidRenewalDate(tomorrow)); // tomorrow
-        assertTrue(Policy.isValidRenewalDate(nextMonth)); // next month
-        assertTrue(Policy.isValidRenewalDate(nextYear)); // next year
-    }
-
     @Test
     public void isRenewalDueWithin() {
         String futureDate = LocalDate.now().plusDays(30).format(RenewalDate.DATE_FORMATTER);
         Policy policy = new Policy(VALID_POLICY_NUMBER, new RenewalDate(futureDate));
 
-        assertTrue(policy.isRenewalDueWithin(60)); // within range
-        assertTrue(policy.isRenewalDueWithin(30)); // exactly on range
-        assertFalse(policy.isRenewalDueWithin(15)); // outside range
+        assertTrue(policy.isRenewalDueWithin(60, LocalDate.now())); // within range
+        assertTrue(policy.isRenewalDueWithin(30, LocalDate.now())); // exactly on range
+        assertFalse(policy.isRenewalDueWithin(15, LocalDate.now())); // outside range
     }
 
     @Test
@@ -206,7 +171,7 @@ public class PolicyTest {
             new RenewalDate(LocalDate.now()
                 .plusDays(5)
                 .format(RenewalDate.DATE_FORMATTER)));
-        assertEquals(5, policy.getDaysUntilRenewal());
+        assertEquals(5, policy.getDaysUntilRenewal(LocalDate.now()));
     }
 
     @Test
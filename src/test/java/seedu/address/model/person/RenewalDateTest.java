@@ -6,14 +6,18 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
+import java.time.Year;
 
 import org.junit.jupiter.api.Test;
 
 public class RenewalDateTest {
 
+    private static final LocalDate TODAY = LocalDate.now();
+
     @Test
     public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new RenewalDate(null));
+        assertThrows(NullPointerException.class, () -> new RenewalDate((String) null));
+        assertThrows(NullPointerException.class, () -> new RenewalDate((LocalDate) null));
     }
 
     @Test
@@ -29,59 +33,110 @@ public class RenewalDateTest {
         assertThrows(IllegalArgumentException.class, () -> new RenewalDate(invalidButMatchingDate));
     }
 
+    @Test
+    public void constructor_pastDate_keepsDate() {
+        // dates that have passed are still valid dates, so that they can be loaded
+        assertEquals(LocalDate.of(2020, 1, 15), new RenewalDate("15-01-2020").value);
+    }
+
+    @Test
+    public void constructor_localDate_keepsDate() {
+        LocalDate date = LocalDate.of(2030, 6, 30);
+        RenewalDate renewalDate = new RenewalDate(date);
+        assertEquals(date, renewalDate.value);
+        assertEquals(new RenewalDate("30-06-2030"), renewalDate);
+    }
+
     @Test
     public void constructor_defaultRenewalDate_setsToOneYear() {
         RenewalDate renewalDate = new RenewalDate();
-        LocalDate expectedDate = LocalDate.now().plusYears(1);
+        LocalDate expectedDate = TODAY.plusYears(1);
         assertEquals(expectedDate, renewalDate.value);
     }
 
+    @Test
+    public void isValidDate() {
+        assertFalse(RenewalDate.isValidDate(null));
+        assertFalse(RenewalDate.isValidDate("")); // empty string
+        assertFalse(RenewalDate.isValidDate("2024-03-15")); // wrong format
+        assertFalse(RenewalDate.isValidDate("29-02-2023")); // invalid date (non-leap year)
+
+        assertTrue(RenewalDate.isValidDate("29-02-2024")); // past date
+        assertTrue(RenewalDate.isValidDate("15-03-2099")); // future date
+    }
+
+    @Test
+    public void isValidRenewalDate_givenToday_checksAgainstGivenDate() {
+        LocalDate today = LocalDate.of(2025, 3, 15);
+        assertThrows(NullPointerException.class, () -> RenewalDate.isValidRenewalDate("16-03-2025", null));
+        assertFalse(RenewalDate.isValidRenewalDate("14-03-2025", today)); // yesterday
+        assertFalse(RenewalDate.isValidRenewalDate("15-03-2025", today)); // today
+        assertTrue(RenewalDate.isValidRenewalDate("16-03-2025", today)); // tomorrow
+    }
+
     @Test
     public void isValidRenewalDate() {
         // null renewal date
-        assertFalse(RenewalDate.isValidRenewalDate(null));
+        assertFalse(RenewalDate.isValidRenewalDate(null, TODAY));
 
         // invalid formats
-        assertFalse(RenewalDate.isValidRenewalDate("")); // empty string
-        assertFalse(RenewalDate.isValidRenewalDate(" ")); // spaces only
-        assertFalse(RenewalDate.isValidRenewalDate("2024-03-15")); // wrong format
-        assertFalse(RenewalDate.isValidRenewalDate("15/03/2024")); // wrong format
-        assertFalse(RenewalDate.isValidRenewalDate("a1-03-2024")); // non-numeric day
-        assertFalse(RenewalDate.isValidRenewalDate("15-b3-2024")); // non-numeric month
-        assertFalse(RenewalDate.isValidRenewalDate("15-03-20c4")); // non-numeric year
-        assertFalse(RenewalDate.isValidRenewalDate("32-03-2024")); // invalid day
-        assertFalse(RenewalDate.isValidRenewalDate("15-13-2024")); // invalid month
-        assertFalse(RenewalDate.isValidRenewalDate("29-02-2023")); // invalid date (non-leap year)
-        assertFalse(RenewalDate.isValidRenewalDate("31-04-2024")); // invalid date (April has 30 days)
-        assertFalse(RenewalDate.isValidRenewalDate("31-06-2024")); // invalid date (June has 30 days)
-        assertFalse(RenewalDate.isValidRenewalDate("31-09-2024")); // invalid date (September has 30 days)
-        assertFalse(RenewalDate.isValidRenewalDate("31-11-2024")); // invalid date (November has 30 days)
+        assertFalse(RenewalDate.isValidRenewalDate("", TODAY)); // empty string
+        assertFalse(RenewalDate.isValidRenewalDate(" ", TODAY)); // spaces only
+        assertFalse(RenewalDate.isValidRenewalDate("2024-03-15", TODAY)); // wrong format
+        assertFalse(RenewalDate.isValidRenewalDate("15/03/2024", TODAY)); // wrong format
+        assertFalse(RenewalDate.isValidRenewalDate("a1-03-2024", TODAY)); // non-numeric day
+        assertFalse(RenewalDate.isValidRenewalDate("15-b3-2024", TODAY)); // non-numeric month
+        assertFalse(RenewalDate.isValidRenewalDate("15-03-20c4", TODAY)); // non-numeric year
+        assertFalse(RenewalDate.isValidRenewalDate("32-03-2024", TODAY)); // invalid day
+        assertFalse(RenewalDate.isValidRenewalDate("15-13-2024", TODAY)); // invalid month
+        assertFalse(RenewalDate.isValidRenewalDate("29-02-2023", TODAY)); // invalid date (non-leap year)
+        assertFalse(RenewalDate.isValidRenewalDate("31-04-2024", TODAY)); // invalid date (April has 30 days)
+        assertFalse(RenewalDate.isValidRenewalDate("31-06-2024", TODAY)); // invalid date (June has 30 days)
+        assertFalse(RenewalDate.isValidRenewalDate("31-09-2024", TODAY)); // invalid date (September has 30 days)
+        assertFalse(RenewalDate.isValidRenewalDate("31-11-2024", TODAY)); // invalid date (November has 30 days)
+        assertFalse(RenewalDate.isValidRenewalDate("+1-03-2099", TODAY)); // signed day
+        assertFalse(RenewalDate.isValidRenewalDate("15-03-\u0662\u0660\u0669\u0669", TODAY)); // non-ASCII digits
+        assertFalse(RenewalDate.isValidRenewalDate("15-03-20999", TODAY)); // five-digit year
+        assertFalse(RenewalDate.isValidRenewalDate("00-03-2099", TODAY)); // day zero
+        assertFalse(RenewalDate.isValidRenewalDate("15-00-2099", TODAY)); // month zero
 
         // past dates
-        String pastDate = LocalDate.now().minusDays(1).format(RenewalDate.DATE_FORMATTER);
-        assertFalse(RenewalDate.isValidRenewalDate(pastDate)); // yesterday
-        assertFalse(RenewalDate.isValidRenewalDate(LocalDate.now().format(RenewalDate.DATE_FORMATTER))); // today
+        String pastDate = TODAY.minusDays(1).format(RenewalDate.DATE_FORMATTER);
+        assertFalse(RenewalDate.isValidRenewalDate(pastDate, TODAY)); // yesterday
+        assertFalse(RenewalDate.isValidRenewalDate(TODAY.format(RenewalDate.DATE_FORMATTER), TODAY)); // today
 
         // valid future dates
-        String tomorrow = LocalDate.now().plusDays(1).format(RenewalDate.DATE_FORMATTER);
-        String nextMonth = LocalDate.now().plusMonths(1).format(RenewalDate.DATE_FORMATTER);
-        String nextYear = LocalDate.now().plusYears(1).format(RenewalDate.DATE_FORMATTER);
-        assertTrue(RenewalDate.isValidRenewalDate(tomorrow)); // tomorrow
-        assertTrue(RenewalDate.isValidRenewalDate(nextMonth)); // next month
-        assertTrue(RenewalDate.isValidRenewalDate(nextYear)); // next year
+        String tomorrow = TODAY.plusDays(1).format(RenewalDate.DATE_FORMATTER);
+        String nextMonth = TODAY.plusMonths(1).format(RenewalDate.DATE_FORMATTER);
+        String nextYear = TODAY.plusYears(1).format(RenewalDate.DATE_FORMATTER);
+        assertTrue(RenewalDate.isValidRenewalDate(tomorrow, TODAY)); // tomorrow
+        assertTrue(RenewalDate.isValidRenewalDate(nextMonth, TODAY)); // next month
+        assertTrue(RenewalDate.isValidRenewalDate(nextYear, TODAY)); // next year
+    }
+
+    @Test
+    public void isValidRenewalDate_leapDay() {
+        int leapYear = TODAY.getYear() + 1;
+        while (!Year.isLeap(leapYear)) {
+            leapYear++;
+        }
+        assertTrue(RenewalDate.isValidRenewalDate("29-02-" + leapYear, TODAY));
+        assertFalse(RenewalDate.isValidRenewalDate("30-02-" + leapYear, TODAY));
+        assertFalse(RenewalDate.isValidRenewalDate("29-02-" + (leapYear + 1), TODAY));
+        assertEquals(LocalDate.of(leapYear, 2, 29), new RenewalDate("29-02-" + leapYear).value);
     }
 
     @Test
     public void isValidRenewalDate_thirtyDayMonths() {
-        LocalDate futureDate = LocalDate.now().plusYears(1);
+        LocalDate futureDate = TODAY.plusYears(1);
         while (futureDate.getMonthValue() != 4) {
             futureDate = futureDate.plusMonths(1);
         }
         String aprilDate = String.format("30-%02d-%d", futureDate.getMonthValue(), futureDate.getYear());
         String invalidAprilDate = String.format("31-%02d-%d", futureDate.getMonthValue(), futureDate.getYear());
         // April (4), June (6), September (9), November (11)
-        assertTrue(RenewalDate.isValidRenewalDate(aprilDate)); // valid last day
-        assertFalse(RenewalDate.isValidRenewalDate(invalidAprilDate)); // invalid day
+        assertTrue(RenewalDate.isValidRenewalDate(aprilDate, TODAY)); // valid last day
+        assertFalse(RenewalDate.isValidRenewalDate(invalidAprilDate, TODAY)); // invalid day
 
         // Get future dates for other months
         LocalDate juneDate = futureDate.plusMonths(2);
@@ -90,31 +145,31 @@ public class RenewalDateTest {
 
         String juneValidDate = String.format("30-%02d-%d", juneDate.getMonthValue(), juneDate.getYear());
         String juneInvalidDate = String.format("31-%02d-%d", juneDate.getMonthValue(), juneDate.getYear());
-        assertTrue(RenewalDate.isValidRenewalDate(juneValidDate));
-        assertFalse(RenewalDate.isValidRenewalDate(juneInvalidDate));
+        assertTrue(RenewalDate.isValidRenewalDate(juneValidDate, TODAY));
+        assertFalse(RenewalDate.isValidRenewalDate(juneInvalidDate, TODAY));
 
         String septValidDate = String.format("30-%02d-%d", septDate.getMonthValue(), septDate.getYear());
         String septInvalidDate = String.format("31-%02d-%d", septDate.getMonthValue(), septDate.getYear());
-        assertTrue(RenewalDate.isValidRenewalDate(septValidDate));
-        assertFalse(RenewalDate.isValidRenewalDate(septInvalidDate));
+        assertTrue(RenewalDate.isValidRenewalDate(septValidDate, TODAY));
+        assertFalse(RenewalDate.isValidRenewalDate(septInvalidDate, TODAY));
 
         String novValidDate = String.format("30-%02d-%d", novDate.getMonthValue(), novDate.getYear());
         String novInvalidDate = String.format("31-%02d-%d", novDate.getMonthValue(), novDate.getYear());
-        assertTrue(RenewalDate.isValidRenewalDate(novValidDate));
-        assertFalse(RenewalDate.isValidRenewalDate(novInvalidDate));
+        assertTrue(RenewalDate.isValidRenewalDate(novValidDate, TODAY));
+        assertFalse(RenewalDate.isValidRenewalDate(novInvalidDate, TODAY));
     }
 
     @Test
     public void isValidRenewalDate_thirtyOneDayMonths() {
         // Get a future date in January 2024 or later
-        LocalDate futureDate = LocalDate.now().plusYears(1);
+        LocalDate futureDate = TODAY.plusYears(1);
         while (futureDate.getMonthValue() != 1) {
             futureDate = futureDate.plusMonths(1);
         }
 
         // January (1), March (3), May (5), July (7), August (8), October (10), December (12)
         String janDate = String.format("31-%02d-%d", futureDate.getMonthValue(), futureDate.getYear());
-        assertTrue(RenewalDate.isValidRenewalDate(janDate));
+        assertTrue(RenewalDate.isValidRenewalDate(janDate, TODAY));
 
         LocalDate marchDate = futureDate.plusMonths(2);
         LocalDate mayDate = futureDate.plusMonths(4);
@@ -130,18 +185,18 @@ public class RenewalDateTest {
         String octValidDate = String.format("31-%02d-%d", octDate.getMonthValue(), octDate.getYear());
         String decValidDate = String.format("31-%02d-%d", decDate.getMonthValue(), decDate.getYear());
 
-        assertTrue(RenewalDate.isValidRenewalDate(marchValidDate));
-        assertTrue(RenewalDate.isValidRenewalDate(mayValidDate));
-        assertTrue(RenewalDate.isValidRenewalDate(julyValidDate));
-        assertTrue(RenewalDate.isValidRenewalDate(augValidDate));
-        assertTrue(RenewalDate.isValidRenewalDate(octValidDate));
-        assertTrue(RenewalDate.isValidRenewalDate(decValidDate));
+        assertTrue(RenewalDate.isValidRenewalDate(marchValidDate, TODAY));
+        assertTrue(RenewalDate.isValidRenewalDate(mayValidDate, TODAY));
+        assertTrue(RenewalDate.isValidRenewalDate(julyValidDate, TODAY));
+        assertTrue(RenewalDate.isValidRenewalDate(augValidDate, TODAY));
+        assertTrue(RenewalDate.isValidRenewalDate(octValidDate, TODAY));
+        assertTrue(RenewalDate.isValidRenewalDate(decValidDate, TODAY));
     }
 
     @Test
     public void isValidRenewalDate_februaryLeapYearRules() {
         // Get next leap year after current year
-        int currentYear = LocalDate.now().getYear();
+        int currentYear = TODAY.getYear();
         int nextLeapYear = currentYear + (4 - (currentYear % 4));
         if (nextLeapYear <= currentYear) {
             nextLeapYear += 4;
@@ -153,18 +208,18 @@ public class RenewalDateTest {
         String invalidFebDate1 = String.format("30-02-%d", nextLeapYear);
         String invalidFebDate2 = String.format("31-02-%d", nextLeapYear);
 
-        assertTrue(RenewalDate.isValidRenewalDate(leapYearDate));
-        assertFalse(RenewalDate.isValidRenewalDate(nonLeapYearDate)); // Not a leap year
-        assertFalse(RenewalDate.isValidRenewalDate("29-02-2100")); // Century year not divisible by 400
-        assertFalse(RenewalDate.isValidRenewalDate("29-02-2000")); // Past date, should be invalid
-        assertFalse(RenewalDate.isValidRenewalDate(invalidFebDate1)); // Invalid days for any February
-        assertFalse(RenewalDate.isValidRenewalDate(invalidFebDate2));
+        assertTrue(RenewalDate.isValidRenewalDate(leapYearDate, TODAY));
+        assertFalse(RenewalDate.isValidRenewalDate(nonLeapYearDate, TODAY)); // Not a leap year
+        assertFalse(RenewalDate.isValidRenewalDate("29-02-2100", TODAY)); // Century year not divisible by 400
+        assertFalse(RenewalDate.isValidRenewalDate("29-02-2000", TODAY)); // Past date, should be invalid
+        assertFalse(RenewalDate.isValidRenewalDate(invalidFebDate1, TODAY)); // Invalid days for any February
+        assertFalse(RenewalDate.isValidRenewalDate(invalidFebDate2, TODAY));
     }
 
     @Test
     public void isValidRenewalDate_boundaryConditions() {
         // Get future dates
-        LocalDate futureDate = LocalDate.now().plusYears(1);
+        LocalDate futureDate = TODAY.plusYears(1);
 
         // First day of month
         String firstDayDate1 = String.format("01-%02d-%d", futureDate.getMonthValue(), futureDate.getYear());
@@ -175,51 +230,73 @@ public class RenewalDateTest {
                 futureDate.plusMonths(2).getMonthValue(),
                 futureDate.plusMonths(2).getYear());
 
-        assertTrue(RenewalDate.isValidRenewalDate(firstDayDate1));
-        assertTrue(RenewalDate.isValidRenewalDate(firstDayDate2));
-        assertTrue(RenewalDate.isValidRenewalDate(firstDayDate3));
+        assertTrue(RenewalDate.isValidRenewalDate(firstDayDate1, TODAY));
+        assertTrue(RenewalDate.isValidRenewalDate(firstDayDate2, TODAY));
+        assertTrue(RenewalDate.isValidRenewalDate(firstDayDate3, TODAY));
 
         // Invalid dates
         String invalidZeroDay = String.format("00-%02d-%d", futureDate.getMonthValue(), futureDate.getYear());
         String invalidZeroMonth = String.format("01-00-%d", futureDate.getYear());
         String invalidMonth = String.format("01-13-%d", futureDate.getYear());
 
-        assertFalse(RenewalDate.isValidRenewalDate(invalidZeroDay));
-        assertFalse(RenewalDate.isValidRenewalDate(invalidZeroMonth));
-        assertFalse(RenewalDate.isValidRenewalDate(invalidMonth));
+        assertFalse(RenewalDate.isValidRenewalDate(invalidZeroDay, TODAY));
+        assertFalse(RenewalDate.isValidRenewalDate(invalidZeroMonth, TODAY));
+        assertFalse(RenewalDate.isValidRenewalDate(invalidMonth, TODAY));
     }
 
     @Test
     public void getDaysUntilRenewal_futureDate_returnsPositiveDays() {
-        RenewalDate renewalDate = new RenewalDate(LocalDate.now().plusDays(5).format(RenewalDate.DATE_FORMATTER));
-        assertEquals(5, renewalDate.getDaysUntilRenewal());
+        RenewalDate renewalDate = new RenewalDate(TODAY.plusDays(5).format(RenewalDate.DATE_FORMATTER));
+        assertEquals(5, renewalDate.getDaysUntilRenewal(TODAY));
     }
 
     @Test
     public void getDaysUntilRenewal_pastDate_returnsNegativeDays() {
-        // We can't test past dates since they're invalid for RenewalDate
-        // This test is no longer applicable
-        assertTrue(true);
+        RenewalDate renewalDate = new RenewalDate(TODAY.minusDays(5).format(RenewalDate.DATE_FORMATTER));
+        assertEquals(-5, renewalDate.getDaysUntilRenewal(TODAY));
     }
 
     @Test
     public void getDaysUntilRenewal_today_returnsZero() {
-        // We can't test today's date since it's invalid for RenewalDate
-        // This test is no longer applicable
-        assertTrue(true);
+        RenewalDate renewalDate = new RenewalDate(TODAY.format(RenewalDate.DATE_FORMATTER));
+        assertEquals(0, renewalDate.getDaysUntilRenewal(TODAY));
+    }
+
+    @Test
+    public void getDaysUntilRenewal_givenToday_countsFromGivenDate() {
+        LocalDate date = TODAY.plusDays(30);
+        RenewalDate renewalDate = new RenewalDate(date.format(RenewalDate.DATE_FORMATTER));
+        assertEquals(10, renewalDate.getDaysUntilRenewal(date.minusDays(10)));
+        assertEquals(0, renewalDate.getDaysUntilRenewal(date));
+        assertEquals(-5, renewalDate.getDaysUntilRenewal(date.plusDays(5)));
+        assertTrue(renewalDate.isRenewalDueWithin(10, date.minusDays(10)));
+        assertFalse(renewalDate.isRenewalDueWithin(9, date.minusDays(10)));
+        assertFalse(renewalDate.isRenewalDueWithin(10, date.plusDays(1)));
+    }
+
+    @Test
+    public void isBetween_epochDays() {
+        LocalDate date = TODAY.plusDays(30);
+        RenewalDate renewalDate = new RenewalDate(date.format(RenewalDate.DATE_FORMATTER));
+        long epochDay = date.toEpochDay();
+        assertEquals(epochDay, renewalDate.toEpochDay());
+        assertTrue(renewalDate.isBetween(epochDay, epochDay)); // single day range
+        assertTrue(renewalDate.isBetween(epochDay - 1, epochDay + 1));
+        assertFalse(renewalDate.isBetween(epochDay + 1, epochDay + 10)); // range after
+        assertFalse(renewalDate.isBetween(epochDay - 10, epochDay - 1)); // range before
     }
 
     @Test
     public void isRenewalDueWithin() {
-        RenewalDate renewalDate = new RenewalDate(LocalDate.now().plusDays(30).format(RenewalDate.DATE_FORMATTER));
-        assertTrue(renewalDate.isRenewalDueWithin(60)); // within range
-        assertTrue(renewalDate.isRenewalDueWithin(30)); // exactly on range
-        assertFalse(renewalDate.isRenewalDueWithin(15)); // outside range
+        RenewalDate renewalDate = new RenewalDate(TODAY.plusDays(30).format(RenewalDate.DATE_FORMATTER));
+        assertTrue(renewalDate.isRenewalDueWithin(60, TODAY)); // within range
+        assertTrue(renewalDate.isRenewalDueWithin(30, TODAY)); // exactly on range
+        assertFalse(renewalDate.isRenewalDueWithin(15, TODAY)); // outside range
     }
 
     @Test
     public void equals() {
-        String date = LocalDate.now().plusDays(30).format(RenewalDate.DATE_FORMATTER);
+        String date = TODAY.plusDays(30).format(RenewalDate.DATE_FORMATTER);
         RenewalDate renewalDate = new RenewalDate(date);
         // same values -> returns true
         assertTrue(renewalDate.equals(new RenewalDate(date)));
@@ -230,7 +307,7 @@ public class RenewalDateTest {
         // different types -> returns false
         assertFalse(renewalDate.equals(5.0f));
         // different dates -> returns false
-        String differentDate = LocalDate.now().plusDays(60).format(RenewalDate.DATE_FORMATTER);
+        String differentDate = TODAY.plusDays(60).format(RenewalDate.DATE_FORMATTER);
         assertFalse(renewalDate.equals(new RenewalDate(differentDate)));
     }
 }
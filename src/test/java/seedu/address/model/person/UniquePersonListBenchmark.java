@@ -0,0 +1,112 @@
+package seedu.address.model.person;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.tag.TagSet;
+
+/**
+ * A utility class to compare the duplicate checks of {@code UniquePersonList}, answered from its identity indexes,
+ * with the linear scan over every person it used to do. Run with the number of persons already in the list as the
+ * first argument, which defaults to 100000, and the number of persons to check and add as the second, which
+ * defaults to 1000.
+ */
+public class UniquePersonListBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100000;
+    private static final int DEFAULT_LOOKUP_COUNT = 1000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int personCount = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int lookupCount = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_LOOKUP_COUNT;
+        List<Person> persons = generatePersons(0, personCount);
+        List<Person> newPersons = generatePersons(personCount, lookupCount);
+
+        benchmark("Linear", personCount, lookupCount, () -> {
+            List<Person> list = new ArrayList<>(persons);
+            long start = System.nanoTime();
+            for (int i = 0; i < lookupCount; i++) {
+                if (!containsByScan(list, getExistingPerson(persons, i))) {
+                    throw new AssertionError();
+                }
+                if (!containsByScan(list, newPersons.get(i))) {
+                    list.add(newPersons.get(i));
+                }
+            }
+            return System.nanoTime() - start;
+        });
+
+        benchmark("Indexed", personCount, lookupCount, () -> {
+            UniquePersonList list = new UniquePersonList();
+            list.setPersons(persons);
+            long start = System.nanoTime();
+            for (int i = 0; i < lookupCount; i++) {
+                if (!list.contains(getExistingPerson(persons, i))) {
+                    throw new AssertionError();
+                }
+                list.add(newPersons.get(i));
+            }
+            return System.nanoTime() - start;
+        });
+    }
+
+    /**
+     * Returns the person to look up in the {@code i}th check, spread over {@code persons}.
+     */
+    private static Person getExistingPerson(List<Person> persons, int i) {
+        return persons.get((int) ((i * 7919L) % persons.size()));
+    }
+
+    /**
+     * Returns true if {@code persons} has a person with the same identity as {@code toCheck}, the way
+     * {@code UniquePersonList#contains} did before it had identity indexes.
+     */
+    private static boolean containsByScan(List<Person> persons, Person toCheck) {
+        return persons.stream().anyMatch(toCheck::isSamePerson);
+    }
+
+    /**
+     * Runs {@code checks} and prints the time they took on average.
+     */
+    private static void benchmark(String name, int personCount, int lookupCount, Checks checks) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            checks.run();
+        }
+
+        long nanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            nanos += checks.run();
+        }
+
+        System.out.printf("%-7s %7d persons, %5d contains and adds: %9.2f ms%n", name, personCount, lookupCount,
+                nanos / 1e6 / MEASURED_ROUNDS);
+    }
+
+    /**
+     * Returns {@code count} persons with distinct names, phones, emails and policy numbers, numbered from
+     * {@code first}.
+     */
+    private static List<Person> generatePersons(int first, int count) {
+        Address address = new Address("Blk 1 Clementi Ave 3");
+        RenewalDate renewalDate = new RenewalDate(LocalDate.now().plusDays(30).format(RenewalDate.DATE_FORMATTER));
+
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = first; i < first + count; i++) {
+            Policy policy = new Policy(String.valueOf(i), renewalDate, PolicyType.LIFE);
+            persons.add(new Person(new Name("Client " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("client" + i + "@example.com"), address, policy, Note.EMPTY, TagSet.EMPTY));
+        }
+        return persons;
+    }
+
+    /**
+     * Checks for and adds persons to a new list, returning the nanoseconds taken after the list was set up.
+     */
+    @FunctionalInterface
+    private interface Checks {
+        long run();
+    }
+}
@@ -9,14 +9,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.FindPersonsPredicateBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +51,28 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSamePolicyNumberOnly_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person samePolicy = new PersonBuilder(BOB).withPolicy(ALICE.getPolicy().getPolicyNumber()).build();
+        assertTrue(uniquePersonList.contains(samePolicy));
+    }
+
+    @Test
+    public void contains_personWithSameNameAndPhoneOnly_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person sameNameAndPhone = new PersonBuilder(BOB).withName(ALICE.getName().fullName)
+                .withPhone(ALICE.getPhone().value).build();
+        assertTrue(uniquePersonList.contains(sameNameAndPhone));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -109,6 +135,24 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonClashesWithAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        // same policy number as ALICE, but same name and email as BOB
+        Person editedAlice = new PersonBuilder(ALICE).withName(BOB.getName().fullName)
+                .withEmail(BOB.getEmail().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -156,12 +200,70 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_list_replacesIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsEveryConflict() {
+        Person samePolicyAsAlice = new PersonBuilder(BOB).withPolicy(ALICE.getPolicy().getPolicyNumber()).build();
+        Person sameNameAndEmailAsBob = new PersonBuilder(BOB).withPolicy("999999").build();
+        List<Person> persons = Arrays.asList(ALICE, BOB, samePolicyAsAlice, sameNameAndEmailAsBob);
+
+        String expectedMessage = new DuplicatePersonException(Arrays.asList(
+                "#1 " + ALICE.getName() + " and #3 " + BOB.getName() + " have the same policy number",
+                "#2 " + BOB.getName() + " and #3 " + BOB.getName() + " have the same name and email",
+                "#2 " + BOB.getName() + " and #4 " + BOB.getName() + " have the same name and email"))
+                .getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () -> uniquePersonList.setPersons(persons));
+    }
+
+    @Test
+    public void search_afterEditAndRemove_searchIndexStaysConsistent() {
+        uniquePersonList.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertFalse(uniquePersonList.search(new FindPersonsPredicateBuilder().withNames("Pauline").build()).get()
+                .test(renamedAlice));
+        assertTrue(uniquePersonList.search(new FindPersonsPredicateBuilder().withNames("Alicia").build()).get()
+                .test(renamedAlice));
+
+        // removing an equal but different instance still clears the index
+        uniquePersonList.remove(new PersonBuilder(renamedAlice).build());
+        assertFalse(uniquePersonList.search(new FindPersonsPredicateBuilder().withNames("Alicia").build()).get()
+                .test(renamedAlice));
+    }
+
+    @Test
+    public void search_listChanges_matchesUpdatedBeforeListenersNotified() {
+        uniquePersonList.add(BOB);
+        Predicate<Person> matches = uniquePersonList
+                .search(new FindPersonsPredicateBuilder().withNames("Alice").build()).get();
+        assertFalse(matches.test(BOB));
+
+        List<Boolean> matchedWhenNotified = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getAddedSubList().forEach(person -> matchedWhenNotified.add(matches.test(person)));
+                change.getRemoved().forEach(person -> matchedWhenNotified.add(matches.test(person)));
+            }
+        });
+
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Arrays.asList(true, false), matchedWhenNotified);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,82 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+    }
+
+    @Test
+    public void of_unsortedDuplicateTags_sortedWithoutDuplicates() {
+        TagSet tagSet = TagSet.of(List.of(new Tag("vip"), new Tag("friends"), new Tag("vip"), new Tag("colleagues")));
+        assertEquals(3, tagSet.size());
+        assertEquals(List.of(new Tag("colleagues"), new Tag("friends"), new Tag("vip")), new ArrayList<>(tagSet));
+        assertSame(Tag.of("friends"), tagSet.get(1));
+    }
+
+    @Test
+    public void of_emptyOrTagSet_reused() {
+        assertSame(TagSet.EMPTY, TagSet.of(new HashSet<>()));
+        TagSet tagSet = TagSet.of(Set.of(new Tag("friends")));
+        assertSame(tagSet, TagSet.of(tagSet));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(Set.of(new Tag("friends"), new Tag("vip")));
+        assertTrue(tagSet.contains(new Tag("vip")));
+        assertFalse(tagSet.contains(new Tag("VIP")));
+        assertFalse(tagSet.contains("vip"));
+        assertTrue(tagSet.containsIgnoreCase("VIP"));
+        assertFalse(tagSet.containsIgnoreCase("family"));
+    }
+
+    @Test
+    public void toArray_returnsObjectArray() {
+        Object[] array = TagSet.of(Set.of(new Tag("friends"))).toArray();
+        assertEquals(Object[].class, array.getClass());
+        array[0] = "not a tag";
+        assertEquals("not a tag", array[0]);
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Set.of(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(new Tag("vip")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(new Tag("vip")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, tagSet::clear);
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+
+    @Test
+    public void equals() {
+        Set<Tag> tags = Set.of(new Tag("friends"), new Tag("vip"));
+        TagSet tagSet = TagSet.of(tags);
+
+        // same values -> returns true, both ways and with any set
+        assertEquals(tagSet, TagSet.of(new HashSet<>(tags)));
+        assertEquals(tagSet, new HashSet<>(tags));
+        assertEquals(new HashSet<>(tags), tagSet);
+        assertEquals(new HashSet<>(tags).hashCode(), tagSet.hashCode());
+
+        // different values -> returns false
+        assertNotEquals(tagSet, TagSet.of(Set.of(new Tag("friends"))));
+        assertNotEquals(tagSet, TagSet.EMPTY);
+    }
+}
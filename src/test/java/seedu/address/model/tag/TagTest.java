@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,27 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameTagName_sameInstance() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of(new String("friends")));
+        assertSame(tag, Tag.intern(new Tag("friends")));
+        assertNotSame(tag, Tag.of("colleagues"));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("#friends"));
+    }
+
+    @Test
+    public void intern_newTag_returnsSameTag() {
+        Tag tag = new Tag("uninternedTagName");
+        assertSame(tag, Tag.intern(tag));
+        assertSame(tag, Tag.of("uninternedTagName"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
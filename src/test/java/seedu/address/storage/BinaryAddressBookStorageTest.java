@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notInAnyFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Files.write(filePath, new byte[] {1, 2, 3, 4, 5});
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        int versionOffset = BinarySerializableAddressBook.MAGIC_NUMBER.length + 1;
+        bytes[versionOffset] = BinarySerializableAddressBook.FORMAT_VERSION + 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.setLastUpdated(LocalDateTime.of(2025, 3, 13, 12, 34));
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getLastUpdated(), readBack.getLastUpdated());
+        assertTrue(AddressBookFile.isBinaryFormat(filePath));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void convertBetweenFormats_jsonUnchanged() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        // Each storage reads the other format
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath);
+        binaryStorage.saveAddressBook(binaryStorage.readAddressBook(jsonFilePath).get());
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(convertedFilePath);
+        jsonStorage.saveAddressBook(jsonStorage.readAddressBook(binaryFilePath).get());
+
+        assertEquals(Files.readString(jsonFilePath), Files.readString(convertedFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin")).saveAddressBook(null));
+    }
+}
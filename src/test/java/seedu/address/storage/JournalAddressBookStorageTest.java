@@ -0,0 +1,205 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JournalAddressBookStorage(testFolder.resolve("addressBook.json")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve("NonExistentFile.json"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // The first save writes a snapshot
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Later saves only append to the journal
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build());
+        original.setLastUpdated(LocalDateTime.of(2025, 3, 13, 12, 0));
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(AddressBookFile.getJournalPath(filePath)).size());
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getLastUpdated(), readBack.getLastUpdated());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(AddressBookFile.getJournalPath(filePath)));
+    }
+
+    @Test
+    public void flushAddressBook_unforcedEntries_readBack() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 10, 10);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+        assertEquals(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalTooLong_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1, 1);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(AddressBookFile.getJournalPath(filePath)));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(AddressBookFile.getJournalPath(filePath)));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_allPersonsReplaced_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        original.addPerson(BENSON);
+        storage.saveAddressBook(original);
+
+        original.setPersons(List.of(BENSON, ALICE));
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(AddressBookFile.getJournalPath(filePath)));
+        assertEquals(original.getPersonList(),
+                new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+
+        Files.writeString(AddressBookFile.getJournalPath(filePath), "{\"operation\":\"REMOVE\",\"ind",
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE);
+        assertEquals(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterIncompleteLastEntry_readBackIntact() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        Files.writeString(AddressBookFile.getJournalPath(filePath), "{\"operation\":\"REMOVE\",\"ind",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // The next entry must not be appended to the incomplete one
+        JournalAddressBookStorage reopenedStorage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopenedStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+        readBack.addPerson(HOON);
+        reopenedStorage.saveAddressBook(readBack);
+        assertEquals(readBack, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        Files.writeString(AddressBookFile.getJournalPath(filePath), "{\"operation\":\"REMOVE\",\"index\":100}\n",
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE);
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_interruptedCompaction_recovered() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path tempPath = testFolder.resolve("addressBook.json.tmp");
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+
+        // A complete temporary snapshot without a journal replaces the snapshot
+        AddressBook compacted = new AddressBook(original);
+        compacted.addPerson(HOON);
+        new JsonAddressBookStorage(tempPath).saveAddressBook(compacted);
+        assertEquals(compacted, new JournalAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(tempPath));
+
+        // A temporary snapshot next to a journal may be incomplete, and is discarded
+        Files.writeString(tempPath, "{\"persons\" : [");
+        Files.writeString(AddressBookFile.getJournalPath(filePath), "");
+        assertEquals(compacted, new JournalAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(tempPath));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original, otherFilePath);
+        assertEquals(original, new JsonAddressBookStorage(otherFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JournalAddressBookStorage(testFolder.resolve("addressBook.json")).saveAddressBook(null));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,13 +10,17 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -60,6 +65,19 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void read_rootNotObject_exceptionThrown() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("notAddressBookObjectAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_ignored() throws Exception {
+        ReadOnlyAddressBook addressBook = readAddressBook("unknownFieldsAddressBook.json").get();
+        assertEquals(1, addressBook.getPersonList().size());
+        assertEquals("Hans Muster", addressBook.getPersonList().get(0).getName().fullName);
+        assertEquals(LocalDateTime.of(2024, 1, 1, 9, 30), addressBook.getLastUpdated());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +104,56 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_journalFromJournalStorage_journalReplayedThenFolded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = AddressBookFile.getJournalPath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+        journalStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journalStorage.saveAddressBook(original);
+        assertTrue(Files.size(journalPath) > 0);
+
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(jsonStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        readBack.addPerson(IDA);
+        jsonStorage.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(readBack, jsonStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_interruptedSave_recovered() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path tempPath = FileUtil.getTempFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        jsonStorage.saveAddressBook(original);
+
+        // A temporary file next to the journal may be incomplete, and is discarded
+        Files.writeString(tempPath, "{\"persons\": [");
+        Files.writeString(AddressBookFile.getJournalPath(filePath), "");
+        assertEquals(original, jsonStorage.readAddressBook().get());
+        assertFalse(Files.exists(tempPath));
+
+        // A temporary file without a journal is complete, and replaces the file
+        Files.delete(AddressBookFile.getJournalPath(filePath));
+        Files.writeString(tempPath, JsonUtil.toJsonString(new JsonSerializableAddressBook(new AddressBook())));
+        assertEquals(new AddressBook(), jsonStorage.readAddressBook().get());
+        assertFalse(Files.exists(tempPath));
+    }
+
+    @Test
+    public void saveAddressBook_streamedOutput_matchesSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original, filePath);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), Files.readString(filePath));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -8,13 +8,17 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -81,4 +85,42 @@ public class JsonSerializableAddressBookTest {
         long secondsDiff = java.time.Duration.between(lastUpdated, now).getSeconds();
         assertTrue(secondsDiff < 60, "Last updated timestamp should be recent");
     }
+
+    @Test
+    public void toModelPersons_manyPersons_sameOrder() throws Exception {
+        List<Person> typicalPersons = TypicalPersons.getTypicalPersons();
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        List<Person> expectedPersons = new ArrayList<>();
+        for (int i = 0; i < 10 * JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE + 1; i++) {
+            Person person = typicalPersons.get(i % typicalPersons.size());
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+            expectedPersons.add(person);
+        }
+        assertEquals(expectedPersons, JsonSerializableAddressBook.toModelPersons(adaptedPersons));
+    }
+
+    @Test
+    public void toModelPersons_invalidPersonsInSeveralChunks_firstReported() {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < 10 * JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE; i++) {
+            adaptedPersons.add(new JsonAdaptedPerson(TypicalPersons.ALICE));
+        }
+        int chunkSize = JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE;
+        adaptedPersons.set(2 * chunkSize + 1, bensonWith(TypicalPersons.BENSON.getName().fullName, "+11"));
+        adaptedPersons.set(5 * chunkSize, bensonWith("R@chel", TypicalPersons.BENSON.getPhone().value));
+        adaptedPersons.set(2 * chunkSize + 2, bensonWith("R@chel", TypicalPersons.BENSON.getPhone().value));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                JsonSerializableAddressBook.toModelPersons(adaptedPersons));
+
+        adaptedPersons.set(2 * chunkSize + 1, new JsonAdaptedPerson(TypicalPersons.ALICE));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                JsonSerializableAddressBook.toModelPersons(adaptedPersons));
+    }
+
+    private static JsonAdaptedPerson bensonWith(String name, String phone) {
+        Person benson = TypicalPersons.BENSON;
+        return new JsonAdaptedPerson(name, phone, benson.getEmail().toString(), benson.getAddress().toString(),
+                benson.getPolicy().policyNumber, benson.getPolicy().renewalDate.toString(),
+                benson.getPolicy().getType().toString(), benson.getNote().toString(), new ArrayList<>());
+    }
 }
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.TypicalPersons;
+
+/**
+ * A utility class to measure how long converting {@code JsonAdaptedPerson} objects into the model takes, which is
+ * dominated by the validation of each field. Run with the number of conversions per round as the only argument,
+ * which defaults to 100000.
+ */
+public class PersonConversionBenchmark {
+
+    private static final int DEFAULT_CONVERSION_COUNT = 100000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) throws IllegalValueException {
+        int conversionCount = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_CONVERSION_COUNT;
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (Person person : TypicalPersons.getTypicalPersons()) {
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            convert(adaptedPersons, conversionCount);
+        }
+
+        long nanos = 0;
+        int checksum = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            checksum += convert(adaptedPersons, conversionCount);
+            nanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("%d conversions: %.2f ms per round, %.0f ns per person (checksum %d)%n", conversionCount,
+                nanos / 1e6 / MEASURED_ROUNDS, (double) nanos / MEASURED_ROUNDS / conversionCount, checksum);
+    }
+
+    /**
+     * Converts {@code conversionCount} persons, cycling through {@code adaptedPersons}, on the calling thread.
+     * Returns a value depending on the results, so that the conversions cannot be optimised away.
+     */
+    private static int convert(List<JsonAdaptedPerson> adaptedPersons, int conversionCount)
+            throws IllegalValueException {
+        int checksum = 0;
+        for (int i = 0; i < conversionCount; i++) {
+            checksum += adaptedPersons.get(i % adaptedPersons.size()).toModelType().hashCode();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.PolicyType;
+import seedu.address.model.person.RenewalDate;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * A utility class to compare the file size and the load and save times of the address book storage formats.
+ * Run with the number of persons to generate as the only argument, which defaults to 10000.
+ */
+public class StorageFormatBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 10000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final String[] TAG_NAMES = {"friends", "family", "vip", "colleagues", "followup"};
+
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        int personCount = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        AddressBook addressBook = generateAddressBook(personCount);
+
+        Path folder = Files.createTempDirectory("storageFormatBenchmark");
+        try {
+            benchmark("JSON", new JsonAddressBookStorage(folder.resolve("addressbook.json")), addressBook);
+            benchmark("Binary", new BinaryAddressBookStorage(folder.resolve("addressbook.bin")), addressBook);
+        } finally {
+            try (Stream<Path> files = Files.walk(folder)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private static void benchmark(String formatName, AddressBookStorage storage, AddressBook addressBook)
+            throws IOException, DataLoadingException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            storage.saveAddressBook(addressBook);
+            storage.readAddressBook();
+        }
+
+        long saveNanos = 0;
+        long loadNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            long saved = System.nanoTime();
+            storage.readAddressBook();
+            loadNanos += System.nanoTime() - saved;
+            saveNanos += saved - start;
+        }
+
+        System.out.printf("%-6s %6d persons: %9d bytes, save %7.2f ms, load %7.2f ms%n", formatName,
+                addressBook.getPersonList().size(), Files.size(storage.getAddressBookFilePath()),
+                saveNanos / 1e6 / MEASURED_ROUNDS, loadNanos / 1e6 / MEASURED_ROUNDS);
+    }
+
+    private static AddressBook generateAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        LocalDate firstRenewalDate = LocalDate.now().plusDays(1);
+        PolicyType[] policyTypes = PolicyType.values();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder()
+                    .withName("Client " + i)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withEmail("client" + i + "@example.com")
+                    .withAddress("Blk " + i + " Clementi Ave 3, #0" + (i % 10) + "-" + i)
+                    .withPolicy(String.valueOf(100000 + i),
+                            firstRenewalDate.plusDays(i % 365).format(RenewalDate.DATE_FORMATTER))
+                    .withPolicyType(policyTypes[i % policyTypes.length].toString())
+                    .withNote("Prefers to be contacted in the evening")
+                    .withTags(TAG_NAMES[i % TAG_NAMES.length], TAG_NAMES[(i / 2) % TAG_NAMES.length])
+                    .build());
+        }
+        return addressBook;
+    }
+}